@@ -0,0 +1,30 @@
+package com.triple.destination_management.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.triple.destination_management.DestinationManagementApplication;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (H2 in-memory, 웹 서버 없음)
+ */
+public final class BenchmarkContext {
+
+	private BenchmarkContext() {
+	}
+
+	public static ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(DestinationManagementApplication.class)
+			.profiles("test")
+			.web(WebApplicationType.NONE)
+			.properties(
+				"spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+				"spring.sql.init.mode=never",
+				"spring.jpa.show-sql=false",
+				"spring.jpa.properties.hibernate.format_sql=false",
+				"logging.level.root=WARN"
+			)
+			.run();
+	}
+}
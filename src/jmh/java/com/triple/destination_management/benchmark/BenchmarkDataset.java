@@ -0,0 +1,114 @@
+package com.triple.destination_management.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 데이터 적재
+ * - 도시 townSize 개 (1% 는 최근 등록 도시)
+ * - 사용자 1명에 대해 여행 tripSize 개, 검색 기록 searchSize 개 (검색 기록은 (사용자, 도시) 당 한 행이므로 도시 수까지)
+ * - 동일한 seed 를 사용하므로 매 실행마다 같은 데이터가 만들어짐
+ */
+public final class BenchmarkDataset {
+
+	public static final long USER_ID = 1L;
+
+	private static final int BATCH_SIZE = 10_000;
+
+	private static final String TOWN_SQL = "INSERT INTO t_town"
+		+ "(town_id, town_country, town_area, town_name, town_code, create_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private static final String TRIP_SQL = "INSERT INTO t_trip"
+		+ "(trip_id, trip_start_date, trip_end_date, town_id, user_id) VALUES (?, ?, ?, ?, ?)";
+
+	private static final String SEARCH_SQL = "INSERT INTO t_user_search"
+		+ "(user_search_id, user_id, town_id, create_date, last_searched_at, hit_count) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private BenchmarkDataset() {
+	}
+
+	public static void load(
+		JdbcTemplate jdbcTemplate,
+		int townSize,
+		int tripSize,
+		int searchSize
+	) {
+		Random random = new Random(42);
+		LocalDateTime now = LocalDateTime.now();
+
+		jdbcTemplate.update(
+			"INSERT INTO t_user(user_id, user_username, user_password, user_name, user_role) VALUES (?, ?, ?, ?, ?)",
+			USER_ID, "benchmark", "benchmark", "benchmark", "ROLE_USER");
+
+		List<Object[]> towns = new ArrayList<>();
+		for (long townId = 1; townId <= townSize; townId++) {
+			boolean isRecent = townId > townSize - Math.max(1, townSize / 100);
+			LocalDateTime createDate = isRecent ? now.minusHours(1) : now.minusDays(30);
+			towns.add(new Object[] {townId, "country-" + townId % 200, "area-" + townId % 20, "town-" + townId,
+				(int)townId, Timestamp.valueOf(createDate)});
+			if (towns.size() == BATCH_SIZE)
+				flush(jdbcTemplate, TOWN_SQL, towns);
+		}
+		flush(jdbcTemplate, TOWN_SQL, towns);
+
+		List<Object[]> trips = new ArrayList<>();
+		for (long tripId = 1; tripId <= tripSize; tripId++) {
+			LocalDateTime startDate = now.plusDays(random.nextInt(720) - 360);
+			trips.add(new Object[] {tripId, Timestamp.valueOf(startDate), Timestamp.valueOf(startDate.plusDays(5)),
+				randomTownId(random, townSize), USER_ID});
+			if (trips.size() == BATCH_SIZE)
+				flush(jdbcTemplate, TRIP_SQL, trips);
+		}
+		flush(jdbcTemplate, TRIP_SQL, trips);
+
+		List<Object[]> searches = new ArrayList<>();
+		long searchId = 1;
+		for (long townId : distinctTownIds(random, townSize, searchSize)) {
+			LocalDateTime searchedAt = now.minusMinutes(random.nextInt(60 * 24 * 14));
+			Timestamp timestamp = Timestamp.valueOf(searchedAt);
+			searches.add(new Object[] {searchId++, USER_ID, townId, timestamp, timestamp, 1 + random.nextInt(5)});
+			if (searches.size() == BATCH_SIZE)
+				flush(jdbcTemplate, SEARCH_SQL, searches);
+		}
+		flush(jdbcTemplate, SEARCH_SQL, searches);
+	}
+
+	private static long randomTownId(
+		Random random,
+		int townSize
+	) {
+		return 1 + random.nextInt(townSize);
+	}
+
+	/**
+	 * 겹치지 않는 도시 아이디 size 개 (도시 수를 넘지 않음)
+	 */
+	private static Set<Long> distinctTownIds(
+		Random random,
+		int townSize,
+		int size
+	) {
+		Set<Long> townIds = new LinkedHashSet<>();
+		while (townIds.size() < Math.min(size, townSize))
+			townIds.add(randomTownId(random, townSize));
+		return townIds;
+	}
+
+	private static void flush(
+		JdbcTemplate jdbcTemplate,
+		String sql,
+		List<Object[]> rows
+	) {
+		if (rows.isEmpty())
+			return;
+		jdbcTemplate.batchUpdate(sql, rows);
+		rows.clear();
+	}
+}
@@ -0,0 +1,63 @@
+package com.triple.destination_management.benchmark;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.entity.User;
+import com.triple.destination_management.global.config.security.jwt.JwtPrincipal;
+import com.triple.destination_management.global.config.security.jwt.JwtProvider;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 인가 필터에서 토큰 하나를 처리하는 비용
+ * - rebuildParserPerCall : 이전 방식 (검증 / uid / role 마다 JwtParser 를 새로 만들어 세 번 파싱)
+ * - parse : 미리 만들어 둔 JwtParser 로 한 번만 파싱
+ * 할당량은 -prof gc 옵션으로 함께 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+	private static final String SECRET = "ILoveTripCorpILikeTripCorpIWantToTripCorpTripCorpHooray";
+
+	private JwtProvider jwtProvider;
+
+	private Key key;
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtProvider = new JwtProvider(SECRET);
+		key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+		token = jwtProvider.createAccessToken(User.builder().id(1L).role(Auth.ROLE_USER).build());
+	}
+
+	@Benchmark
+	public void rebuildParserPerCall(Blackhole blackhole) {
+		Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+		blackhole.consume(
+			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("uid", Long.class));
+		blackhole.consume(
+			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("role", String.class));
+	}
+
+	@Benchmark
+	public JwtPrincipal parse() {
+		return jwtProvider.parse(token);
+	}
+}
@@ -0,0 +1,87 @@
+package com.triple.destination_management.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
+import com.triple.destination_management.domain.town.service.TownFeedCache;
+import com.triple.destination_management.domain.town.service.TownFeedComposer;
+import com.triple.destination_management.domain.town.service.TownService;
+
+/**
+ * 사용자별 도시 목록 조회 (TownService.findTownsByUser)
+ * - composeFeed : 캐시를 거치지 않고 town.feed 소스로 목록을 조합 (TownFeedComposer.compose)
+ * - findTownsByUserUncached : 매 호출마다 캐시를 비우고 DB 에서 목록을 다시 만듦
+ * - findTownsByUserCached : 캐시된 목록 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TownFeedBenchmark {
+
+	@Param({"1000", "100000", "1000000"})
+	private int townSize;
+
+	@Param({"10", "1000"})
+	private int tripSize;
+
+	@Param({"10", "1000"})
+	private int searchSize;
+
+	private ConfigurableApplicationContext context;
+
+	private TownService townService;
+
+	private TownFeedComposer townFeedComposer;
+
+	private TownFeedCache townFeedCache;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		BenchmarkDataset.load(context.getBean(JdbcTemplate.class), townSize, tripSize, searchSize);
+		townService = context.getBean(TownService.class);
+		townFeedComposer = context.getBean(TownFeedComposer.class);
+		townFeedCache = context.getBean(TownFeedCache.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TownResponse> composeFeed() {
+		return townFeedComposer.compose(BenchmarkDataset.USER_ID);
+	}
+
+	@Benchmark
+	public List<TownResponse> findTownsByUserUncached() {
+		townFeedCache.evict(TownFeedEvictEvent.ofUser(BenchmarkDataset.USER_ID));
+		return townService.findTownsByUser(BenchmarkDataset.USER_ID);
+	}
+
+	@Benchmark
+	public List<TownResponse> findTownsByUserCached() {
+		return townService.findTownsByUser(BenchmarkDataset.USER_ID);
+	}
+
+	@Benchmark
+	public List<TownResponse> findTownsByAnonymous() {
+		return townService.findTownsByUser(null);
+	}
+}
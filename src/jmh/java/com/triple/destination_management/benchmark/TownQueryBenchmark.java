@@ -0,0 +1,99 @@
+package com.triple.destination_management.benchmark;
+
+import static com.triple.destination_management.domain.town.entity.QTown.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.service.RandomTownSampler;
+
+/**
+ * 무작위 도시 조회 및 TownResponse 프로젝션 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TownQueryBenchmark {
+
+	private static final int PAGE_SIZE = 1000;
+
+	@Param({"1000", "100000", "1000000"})
+	private int townSize;
+
+	private ConfigurableApplicationContext context;
+
+	private RandomTownSampler randomTownSampler;
+
+	private JPAQueryFactory queryFactory;
+
+	private List<Long> excludeIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		BenchmarkDataset.load(context.getBean(JdbcTemplate.class), townSize, 0, 0);
+		randomTownSampler = context.getBean(RandomTownSampler.class);
+		queryFactory = context.getBean(JPAQueryFactory.class);
+
+		excludeIds = LongStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TownResponse> findRandomTowns() {
+		return randomTownSampler.findRandomTowns(10, excludeIds);
+	}
+
+	@Benchmark
+	public List<TownResponse> projectionFields() {
+		return queryFactory.select(
+				Projections.fields(TownResponse.class, town.id, town.country, town.area, town.name))
+			.from(town)
+			.orderBy(town.id.asc())
+			.limit(PAGE_SIZE)
+			.fetch();
+	}
+
+	@Benchmark
+	public List<TownResponse> projectionConstructor() {
+		return queryFactory.select(
+				Projections.constructor(TownResponse.class, town.id, town.country, town.area, town.name))
+			.from(town)
+			.orderBy(town.id.asc())
+			.limit(PAGE_SIZE)
+			.fetch();
+	}
+
+	@Benchmark
+	public List<TownResponse> entityToDto() {
+		return queryFactory.selectFrom(town)
+			.orderBy(town.id.asc())
+			.limit(PAGE_SIZE)
+			.fetch()
+			.stream()
+			.map(TownResponse::entityToDto)
+			.collect(Collectors.toList());
+	}
+}
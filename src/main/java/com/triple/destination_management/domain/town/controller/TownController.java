@@ -1,7 +1,11 @@
 package com.triple.destination_management.domain.town.controller;
 
+import java.io.InputStream;
+
 import javax.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,10 +15,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.triple.destination_management.domain.town.dto.TownBatchRequest;
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
 import com.triple.destination_management.domain.town.dto.TownRequest;
+import com.triple.destination_management.domain.town.service.TownExportService;
+import com.triple.destination_management.domain.town.service.TownImportService;
 import com.triple.destination_management.domain.town.service.TownService;
 import com.triple.destination_management.global.dto.ApiDataResponse;
 
@@ -27,6 +38,10 @@ public class TownController {
 
 	private final TownService townService;
 
+	private final TownImportService townImportService;
+
+	private final TownExportService townExportService;
+
 	/**
 	 * 도시 등록하기
 	 */
@@ -36,6 +51,28 @@ public class TownController {
 		return ResponseEntity.ok(ApiDataResponse.of(townService.registerTown(townRequest)));
 	}
 
+	/**
+	 * 도시 일괄 등록하기
+	 */
+	@PostMapping("/batch")
+	@PreAuthorize("hasRole('ROLE_USER')")
+	public ResponseEntity<?> registerTowns(@Valid @RequestBody TownBatchRequest townBatchRequest) {
+		return ResponseEntity.ok(ApiDataResponse.of(townService.registerTowns(townBatchRequest.getTowns())));
+	}
+
+	/**
+	 * 도시 대량 가져오기 (NDJSON / CSV)
+	 */
+	@PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+	@PreAuthorize("hasRole('ROLE_USER')")
+	public ResponseEntity<?> importTowns(
+		InputStream inputStream,
+		@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType
+	) {
+		MediaType mediaType = MediaType.parseMediaType(contentType);
+		return ResponseEntity.ok(ApiDataResponse.of(townImportService.importTowns(inputStream, mediaType)));
+	}
+
 	/**
 	 * 도시 수정하기
 	 */
@@ -57,6 +94,32 @@ public class TownController {
 		return ResponseEntity.ok(ApiDataResponse.of(townService.removeTown(townId)));
 	}
 
+	/**
+	 * 전체 도시 내보내기 (NDJSON)
+	 */
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportTowns() {
+		return ResponseEntity.ok()
+			.contentType(TownImportService.APPLICATION_NDJSON)
+			.body(townExportService::exportTowns);
+	}
+
+	/**
+	 * 도시 자동완성 조회하기
+	 */
+	@GetMapping("/suggest")
+	public ResponseEntity<?> suggestTowns(@RequestParam String q) {
+		return ResponseEntity.ok(ApiDataResponse.of(townService.suggestTowns(q)));
+	}
+
+	/**
+	 * 도시 목록 페이지 조회하기
+	 */
+	@GetMapping("/page")
+	public ResponseEntity<?> findTownPage(@Valid TownPageRequest townPageRequest) {
+		return ResponseEntity.ok(ApiDataResponse.of(townService.findTownPage(townPageRequest)));
+	}
+
 	/**
 	 * 단일 도시 조회하기
 	 */
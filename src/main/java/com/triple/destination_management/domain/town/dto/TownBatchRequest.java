@@ -0,0 +1,24 @@
+package com.triple.destination_management.domain.town.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TownBatchRequest {
+
+	@Valid
+	@NotEmpty(message = "도시 목록을 입력해주세요!")
+	@Size(max = 1000, message = "도시는 한 번에 1000개까지 등록할 수 있습니다!")
+	private List<TownRequest> towns;
+}
@@ -0,0 +1,19 @@
+package com.triple.destination_management.domain.town.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TownFeedDto {
+
+	private List<TownResponse> travelingTowns; // 여행중 도시 (개수 제한 없음)
+
+	private List<TownResponse> towns; // 여행 예정 -> 최근 등록 -> 최근 검색 순 도시
+}
@@ -1,6 +1,6 @@
 package com.triple.destination_management.domain.town.dto;
 
-import java.util.List;
+import java.util.Collection;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,13 +15,13 @@ public class TownFindDto {
 
 	private Long userId;
 
-	private List<Long> ids;
+	private Collection<Long> ids; // 제외할 도시 아이디
 
 	private Integer size;
 
 	public static TownFindDto getTownFindDto(
 		Long userId,
-		List<Long> ids,
+		Collection<Long> ids,
 		Integer size
 	) {
 		return TownFindDto.builder()
@@ -0,0 +1,19 @@
+package com.triple.destination_management.domain.town.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TownImportResponse {
+
+	private long imported; // 새로 등록된 도시 수
+
+	private long duplicated; // 요청 내 혹은 DB 에 이미 있어 건너뛴 도시 수
+
+	private long invalid; // 국가나 도시명이 없어 건너뛴 행 수
+}
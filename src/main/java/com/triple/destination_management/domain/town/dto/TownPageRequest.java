@@ -0,0 +1,29 @@
+package com.triple.destination_management.domain.town.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TownPageRequest {
+
+	private Long after; // 이전 페이지의 마지막 도시 아이디 (첫 페이지는 null)
+
+	@Builder.Default
+	@NotNull(message = "조회 개수를 입력해주세요!")
+	@Min(value = 1, message = "조회 개수는 1 이상이어야 합니다!")
+	@Max(value = 100, message = "조회 개수는 100 이하여야 합니다!")
+	private Integer size = 20;
+
+	private String country;
+
+	private String area;
+}
@@ -0,0 +1,31 @@
+package com.triple.destination_management.domain.town.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TownPageResponse {
+
+	private List<TownResponse> towns;
+
+	private Long nextCursor; // 다음 페이지 요청 시 after 로 전달할 값 (마지막 페이지면 null)
+
+	private boolean hasNext;
+
+	public static TownPageResponse of(
+		List<TownResponse> towns,
+		int size
+	) {
+		boolean hasNext = towns.size() > size;
+		List<TownResponse> page = hasNext ? towns.subList(0, size) : towns;
+		Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+		return new TownPageResponse(page, nextCursor, hasNext);
+	}
+}
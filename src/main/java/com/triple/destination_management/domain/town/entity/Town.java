@@ -5,6 +5,8 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import org.hibernate.annotations.DynamicInsert;
@@ -28,11 +30,15 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = true)
 @DynamicUpdate
 @DynamicInsert
-@Table(name = "t_town")
+@Table(name = "t_town", indexes = {
+	@Index(name = "idx_town_create_date", columnList = "create_date"),
+	@Index(name = "idx_town_country_area", columnList = "town_country, town_area")
+})
 public class Town extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "town_seq_generator")
+	@SequenceGenerator(name = "town_seq_generator", sequenceName = "t_town_seq", allocationSize = 50)
 	@Column(name = "town_id")
 	private Long id;
 
@@ -0,0 +1,46 @@
+package com.triple.destination_management.domain.town.event;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TownChangedEvent {
+
+	private final List<Long> townIds;
+
+	private final ChangeType changeType;
+
+	public static TownChangedEvent registered(Long townId) {
+		return new TownChangedEvent(List.of(townId), ChangeType.REGISTER);
+	}
+
+	public static TownChangedEvent registered(List<Long> townIds) {
+		return new TownChangedEvent(List.copyOf(townIds), ChangeType.REGISTER);
+	}
+
+	public static TownChangedEvent modified(Long townId) {
+		return new TownChangedEvent(List.of(townId), ChangeType.MODIFY);
+	}
+
+	public static TownChangedEvent removed(Long townId) {
+		return new TownChangedEvent(List.of(townId), ChangeType.REMOVE);
+	}
+
+	/**
+	 * 대량 가져오기가 끝난 뒤 한 번만 발행 (등록된 아이디 목록 없이, 받는 쪽에서 필요하면 전체를 다시 적재)
+	 */
+	public static TownChangedEvent imported() {
+		return new TownChangedEvent(List.of(), ChangeType.IMPORT);
+	}
+
+	// change type enum
+	public enum ChangeType {
+		REGISTER, MODIFY, REMOVE, IMPORT
+	}
+}
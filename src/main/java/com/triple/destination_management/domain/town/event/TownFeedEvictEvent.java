@@ -0,0 +1,32 @@
+package com.triple.destination_management.domain.town.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TownFeedEvictEvent {
+
+	private final Long userId; // 특정 사용자의 목록만 무효화
+
+	private final Long townId; // 해당 도시가 포함된 목록만 무효화
+
+	public static TownFeedEvictEvent ofUser(Long userId) {
+		return new TownFeedEvictEvent(userId, null);
+	}
+
+	public static TownFeedEvictEvent ofTown(Long townId) {
+		return new TownFeedEvictEvent(null, townId);
+	}
+
+	public static TownFeedEvictEvent ofAll() {
+		return new TownFeedEvictEvent(null, null);
+	}
+
+	public boolean isAll() {
+		return userId == null && townId == null;
+	}
+}
@@ -0,0 +1,11 @@
+package com.triple.destination_management.domain.town.exception;
+
+import com.triple.destination_management.global.constants.ResponseCode;
+import com.triple.destination_management.global.exception.GeneralException;
+
+public class TownImportException extends GeneralException {
+
+	public TownImportException(Throwable cause) {
+		super(ResponseCode.BAD_REQUEST, cause);
+	}
+}
@@ -1,21 +1,36 @@
 package com.triple.destination_management.domain.town.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import com.triple.destination_management.domain.town.dto.TownFeedDto;
 import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
 
 public interface QueryDslTownRepository {
 
-	List<TownResponse> findTownsByLimit();
+	List<TownResponse> findRecentSearchTowns(TownFindDto getTownFindDto);
 
-	List<TownResponse> findTravelingTowns(Long userId);
+	List<TownResponse> findRecentInsertTowns(TownFindDto getTownFindDto);
 
-	List<TownResponse> findScheduledTowns(TownFindDto getTownFindDto);
+	long[] findAllTownIds();
 
-	List<TownResponse> findRecentSearchTowns(TownFindDto getTownFindDto);
+	List<TownResponse> findTownsByIds(List<Long> ids);
 
-	List<TownResponse> findRecentInsertTowns(TownFindDto getTownFindDto);
+	TownFeedDto findFeedTowns(TownFindDto townFindDto);
+
+	List<TownResponse> findPopularTowns(
+		LocalDateTime since,
+		int size
+	);
+
+	Stream<TownResponse> streamAllTowns(int fetchSize);
+
+	List<Town> findTownValues(Collection<Long> townIds);
 
-	List<TownResponse> findRandomTowns(TownFindDto getTownFindDto);
+	List<TownResponse> findTownsAfter(TownPageRequest townPageRequest);
 }
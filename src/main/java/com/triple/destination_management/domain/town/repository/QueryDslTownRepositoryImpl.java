@@ -5,19 +5,41 @@ import static com.triple.destination_management.domain.trip.entity.QTrip.*;
 import static com.triple.destination_management.domain.user.entity.QUserSearch.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.annotations.QueryHints;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triple.destination_management.domain.town.dto.TownFeedDto;
 import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.trip.entity.QTrip;
+import com.triple.destination_management.domain.user.entity.QUserSearch;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -25,71 +47,54 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class QueryDslTownRepositoryImpl implements QueryDslTownRepository {
 
+	private static final int TRAVELING = 0;
+	private static final int SCHEDULED = 1;
+	private static final int RECENT_INSERT = 2;
+	private static final int RECENT_SEARCH = 3;
+
+	private static final long POPULAR_TRIP_WEIGHT = 3; // 여행 등록 1건 = 검색 3건
+
 	private final JPAQueryFactory queryFactory;
 
+	/**
+	 * 아이디 순서를 유지하며 기본키로 조회 (없는 도시는 제외)
+	 */
 	@Override
-	public List<TownResponse> findTownsByLimit() {
-		return queryFactory.select(getFields())
+	public List<TownResponse> findTownsByIds(List<Long> ids) {
+		if (ids.isEmpty())
+			return new ArrayList<>();
+
+		Map<Long, TownResponse> townResponses = queryFactory.select(getFields())
 			.from(town)
-			.limit(10)
-			.orderBy(
-				NumberExpression.random().asc()
-			)
-			.fetch();
+			.where(town.id.in(ids))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(TownResponse::getId, Function.identity()));
+
+		return ids.stream()
+			.map(townResponses::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
 	}
 
+	/**
+	 * 전체 도시 아이디 (오름차순)
+	 */
 	@Override
-	public List<TownResponse> findRandomTowns(TownFindDto getTownFindDto) {
-		return queryFactory.select(getFields())
+	public long[] findAllTownIds() {
+		return queryFactory.select(town.id)
 			.from(town)
-			.where(town.id.notIn(getTownFindDto.getIds()))
-			.orderBy(
-				NumberExpression.random().asc()
-			)
-			.limit(getTownFindDto.getSize())
-			.fetch();
+			.orderBy(town.id.asc())
+			.fetch()
+			.stream()
+			.mapToLong(Long::longValue)
+			.toArray();
 	}
 
 	private QBean<TownResponse> getFields() {
 		return Projections.fields(TownResponse.class, town.id, town.country, town.area, town.name);
 	}
 
-	@Override
-	public List<TownResponse> findTravelingTowns(Long userId) {
-		return queryFactory
-			.select(
-				Projections.fields(TownResponse.class, trip.town.id, trip.town.country, trip.town.area, trip.town.name))
-			.from(trip)
-			.where(
-				eqUserId(userId),
-				trip.startDate.before(LocalDateTime.now()),
-				trip.endDate.after(LocalDateTime.now())
-			)
-			.orderBy(trip.id.asc())
-			.fetch();
-	}
-
-	@Override
-	public List<TownResponse> findScheduledTowns(TownFindDto townFindDto) {
-		return queryFactory
-			.select(
-				Projections.fields(TownResponse.class, trip.town.id, trip.town.country, trip.town.area, trip.town.name))
-			.from(trip)
-			.leftJoin(trip.town)
-			.where(
-				eqUserId(townFindDto.getUserId()),
-				trip.town.id.notIn(townFindDto.getIds()),
-				trip.startDate.after(LocalDateTime.now())
-			)
-			.orderBy(trip.id.asc())
-			.limit(townFindDto.getSize())
-			.fetch();
-	}
-
-	private BooleanExpression eqUserId(Long userId) {
-		return trip.user.id.eq(userId);
-	}
-
 	@Override
 	public List<TownResponse> findRecentSearchTowns(TownFindDto townFindDto) {
 		return queryFactory
@@ -101,9 +106,9 @@ public class QueryDslTownRepositoryImpl implements QueryDslTownRepository {
 			.where(
 				userSearch.town.id.notIn(townFindDto.getIds()),
 				userSearch.user.id.eq(townFindDto.getUserId()),
-				userSearch.createDate.between(LocalDateTime.now().minusDays(7), LocalDateTime.now())
+				userSearch.lastSearchedAt.between(LocalDateTime.now().minusDays(7), LocalDateTime.now())
 			)
-			.orderBy(userSearch.id.desc())
+			.orderBy(userSearch.lastSearchedAt.desc())
 			.limit(townFindDto.getSize())
 			.fetch();
 	}
@@ -121,4 +126,249 @@ public class QueryDslTownRepositoryImpl implements QueryDslTownRepository {
 			.limit(townFindDto.getSize())
 			.fetch();
 	}
+
+	/**
+	 * 여행중 -> 여행 예정 -> 최근 등록 -> 최근 검색 도시를 한 번의 쿼리로 조회한 뒤 우선순위별로 정렬 / 중복 제거
+	 * - 여행중인 도시는 개수 제한 없이 포함하고, 나머지 도시는 size 만큼만 포함 (무작위 도시는 채우지 않음)
+	 */
+	@Override
+	public TownFeedDto findFeedTowns(TownFindDto townFindDto) {
+		LocalDateTime now = LocalDateTime.now();
+		Long userId = townFindDto.getUserId();
+
+		List<Tuple> tuples = queryFactory
+			.select(
+				town.id, town.country, town.area, town.name, town.createDate,
+				getTravelingTripId(userId, now), getScheduledTripId(userId, now), getRecentSearchDate(userId, now)
+			)
+			.from(town)
+			.where(
+				town.id.in(
+					JPAExpressions.select(trip.town.id)
+						.from(trip)
+						// 시작일 <= 종료일 이므로 (시작일 > now or 종료일 > now) 는 종료일 > now 와 같음 (idx_trip_user_end_date)
+						.where(trip.user.id.eq(userId), trip.endDate.after(now))
+				).or(town.id.in(
+					JPAExpressions.select(userSearch.town.id)
+						.from(userSearch)
+						.where(
+							userSearch.user.id.eq(userId),
+							userSearch.lastSearchedAt.between(now.minusDays(7), now)
+						)
+				)).or(town.createDate.between(now.minusDays(1), now)),
+				notInIds(townFindDto.getIds())
+			)
+			.fetch();
+
+		List<FeedTown> feedTowns = tuples.stream()
+			.map(tuple -> getFeedTown(tuple, now))
+			.filter(Objects::nonNull)
+			.sorted(Comparator.comparingInt(FeedTown::getBucket).thenComparingLong(FeedTown::getOrder))
+			.collect(Collectors.toList());
+
+		int size = townFindDto.getSize();
+		int bucket = TRAVELING;
+		boolean isOpened = true;
+		List<TownResponse> travelingTowns = new ArrayList<>();
+		List<TownResponse> townResponses = new ArrayList<>();
+		for (FeedTown feedTown : feedTowns) {
+			if (feedTown.getBucket() == TRAVELING) {
+				travelingTowns.add(feedTown.getTownResponse());
+				continue;
+			}
+
+			// 앞선 그룹까지로 목록이 가득 찼다면 다음 그룹은 포함하지 않음
+			if (feedTown.getBucket() != bucket) {
+				bucket = feedTown.getBucket();
+				isOpened = travelingTowns.size() + townResponses.size() < size;
+			}
+
+			if (isOpened && townResponses.size() < size)
+				townResponses.add(feedTown.getTownResponse());
+		}
+		return new TownFeedDto(travelingTowns, townResponses);
+	}
+
+	private BooleanExpression notInIds(Collection<Long> townIds) {
+		return townIds == null || townIds.isEmpty() ? null : town.id.notIn(townIds);
+	}
+
+	private JPQLQuery<Long> getTravelingTripId(
+		Long userId,
+		LocalDateTime now
+	) {
+		QTrip travelingTrip = new QTrip("travelingTrip");
+		return JPAExpressions.select(travelingTrip.id.min())
+			.from(travelingTrip)
+			.where(
+				travelingTrip.town.id.eq(town.id),
+				travelingTrip.user.id.eq(userId),
+				travelingTrip.startDate.before(now),
+				travelingTrip.endDate.after(now)
+			);
+	}
+
+	private JPQLQuery<Long> getScheduledTripId(
+		Long userId,
+		LocalDateTime now
+	) {
+		QTrip scheduledTrip = new QTrip("scheduledTrip");
+		return JPAExpressions.select(scheduledTrip.id.min())
+			.from(scheduledTrip)
+			.where(
+				scheduledTrip.town.id.eq(town.id),
+				scheduledTrip.user.id.eq(userId),
+				scheduledTrip.startDate.after(now)
+			);
+	}
+
+	private JPQLQuery<LocalDateTime> getRecentSearchDate(
+		Long userId,
+		LocalDateTime now
+	) {
+		QUserSearch recentSearch = new QUserSearch("recentSearch");
+		return JPAExpressions.select(recentSearch.lastSearchedAt.max())
+			.from(recentSearch)
+			.where(
+				recentSearch.town.id.eq(town.id),
+				recentSearch.user.id.eq(userId),
+				recentSearch.lastSearchedAt.between(now.minusDays(7), now)
+			);
+	}
+
+	private FeedTown getFeedTown(
+		Tuple tuple,
+		LocalDateTime now
+	) {
+		TownResponse townResponse = TownResponse.builder()
+			.id(tuple.get(0, Long.class))
+			.country(tuple.get(1, String.class))
+			.area(tuple.get(2, String.class))
+			.name(tuple.get(3, String.class))
+			.build();
+
+		LocalDateTime createDate = tuple.get(4, LocalDateTime.class);
+		Long travelingTripId = tuple.get(5, Long.class);
+		Long scheduledTripId = tuple.get(6, Long.class);
+		LocalDateTime recentSearchDate = tuple.get(7, LocalDateTime.class);
+
+		if (travelingTripId != null)
+			return new FeedTown(TRAVELING, travelingTripId, townResponse);
+		if (scheduledTripId != null)
+			return new FeedTown(SCHEDULED, scheduledTripId, townResponse);
+		if (createDate != null && !createDate.isBefore(now.minusDays(1)) && !createDate.isAfter(now))
+			return new FeedTown(RECENT_INSERT, -townResponse.getId(), townResponse);
+		if (recentSearchDate != null)
+			return new FeedTown(RECENT_SEARCH, -recentSearchDate.toEpochSecond(ZoneOffset.UTC), townResponse);
+		return null;
+	}
+
+	/**
+	 * since 이후 등록된 여행 수(POPULAR_TRIP_WEIGHT 배) 와 검색한 사용자 수로 점수를 매겨 인기 순으로 size 개 조회
+	 * - 검색 기록은 (사용자, 도시) 당 한 행이므로 행 수가 곧 검색한 사용자 수이며, hit_count 는 기간과 무관한 누적 횟수라
+	 *   한 사용자의 반복 검색이 순위를 좌우하지 않도록 합산하지 않음
+	 * - 기간 조건으로 시작하는 인덱스(idx_trip_create_date, idx_user_search_searched_at) 범위만 집계
+	 * - 주기적으로 순위를 만들 때만 사용 (요청마다 호출하지 않음)
+	 */
+	@Override
+	public List<TownResponse> findPopularTowns(
+		LocalDateTime since,
+		int size
+	) {
+		Map<Long, Long> scores = new HashMap<>();
+		queryFactory.select(trip.town.id, trip.id.count())
+			.from(trip)
+			.where(trip.createDate.goe(since))
+			.groupBy(trip.town.id)
+			.fetch()
+			.forEach(tuple -> scores.merge(tuple.get(0, Long.class), tuple.get(1, Long.class) * POPULAR_TRIP_WEIGHT,
+				Long::sum));
+		queryFactory.select(userSearch.town.id, userSearch.id.count())
+			.from(userSearch)
+			.where(userSearch.lastSearchedAt.goe(since))
+			.groupBy(userSearch.town.id)
+			.fetch()
+			.forEach(tuple -> scores.merge(tuple.get(0, Long.class), tuple.get(1, Long.class), Long::sum));
+
+		List<Long> ids = scores.entrySet().stream()
+			.sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.limit(size)
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+		return findTownsByIds(ids);
+	}
+
+	/**
+	 * 전체 도시를 아이디 순으로 스트리밍
+	 * - Hibernate ScrollableResults(FORWARD_ONLY) 위에서 동작하며 엔티티가 아닌 DTO 로 받아 영속성 컨텍스트에 쌓이지 않는다.
+	 * - 호출하는 쪽 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+	 */
+	@Override
+	public Stream<TownResponse> streamAllTowns(int fetchSize) {
+		return queryFactory.select(getFields())
+			.from(town)
+			.orderBy(town.id.asc())
+			.setHint(QueryHints.FETCH_SIZE, fetchSize)
+			.setHint(QueryHints.READ_ONLY, true)
+			.stream();
+	}
+
+	/**
+	 * 코드를 포함한 도시 값을 아이디 순으로 조회 (townIds 가 null 이면 전체)
+	 * - 엔티티가 아닌 값 객체로 받으므로 영속성 컨텍스트에 쌓이지 않는다.
+	 */
+	@Override
+	public List<Town> findTownValues(Collection<Long> townIds) {
+		return queryFactory.select(Projections.fields(Town.class, town.id, town.code, town.country, town.area, town.name))
+			.from(town)
+			.where(inIds(townIds))
+			.orderBy(town.id.asc())
+			.fetch();
+	}
+
+	private BooleanExpression inIds(Collection<Long> townIds) {
+		return townIds == null ? null : town.id.in(townIds);
+	}
+
+	/**
+	 * 도시 아이디 기준 키셋 페이지 조회
+	 * - OFFSET 없이 town_id > after 로 이어서 읽으므로 뒤쪽 페이지도 비용이 일정하다.
+	 * - 다음 페이지 여부 확인을 위해 size + 1 개를 조회한다.
+	 */
+	@Override
+	public List<TownResponse> findTownsAfter(TownPageRequest townPageRequest) {
+		return queryFactory.select(getFields())
+			.from(town)
+			.where(
+				gtId(townPageRequest.getAfter()),
+				eqCountry(townPageRequest.getCountry()),
+				eqArea(townPageRequest.getArea())
+			)
+			.orderBy(town.id.asc())
+			.limit(townPageRequest.getSize() + 1)
+			.fetch();
+	}
+
+	private BooleanExpression gtId(Long after) {
+		return after == null ? null : town.id.gt(after);
+	}
+
+	private BooleanExpression eqCountry(String country) {
+		return StringUtils.hasText(country) ? town.country.eq(country) : null;
+	}
+
+	private BooleanExpression eqArea(String area) {
+		return StringUtils.hasText(area) ? town.area.eq(area) : null;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class FeedTown {
+
+		private final int bucket; // 우선순위 그룹
+
+		private final long order; // 그룹 내 정렬 기준
+
+		private final TownResponse townResponse;
+	}
 }
@@ -1,5 +1,7 @@
 package com.triple.destination_management.domain.town.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +11,6 @@ import com.triple.destination_management.domain.town.entity.Town;
 public interface TownRepository extends JpaRepository<Town, Long>, QueryDslTownRepository {
 
 	Optional<Town> findTownByCode(Integer code);
+
+	List<Town> findAllByCodeIn(Collection<Integer> codes);
 }
@@ -0,0 +1,104 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 익명 사용자용 도시 목록
+ * - 무작위로 섞은 도시 목록을 주기적으로 / 도시 변경 시 다시 만들어 두고
+ * - 요청마다 임의의 위치부터 잘라서 반환하므로 조회 시 DB 를 거치지 않음
+ * - 첫 목록은 기동 직후(ApplicationReadyEvent) 만들어 둠
+ */
+@Component
+@RequiredArgsConstructor
+public class AnonymousTownFeed {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnonymousTownFeed.class);
+
+	private static final int SNAPSHOT_SIZE = 1000;
+
+	private static final long REFRESH_INTERVAL = 1000 * 60 * 5; // 5 minute
+
+	private final RandomTownSampler randomTownSampler;
+
+	private final AtomicBoolean isChanged = new AtomicBoolean(true);
+
+	private volatile List<TownResponse> snapshot = Collections.emptyList();
+
+	private volatile long refreshedAt;
+
+	/**
+	 * 목록이 비어 있다면(도시가 없거나 아직 만들지 못한 경우) 빈 목록 반환
+	 */
+	public List<TownResponse> getTowns(int size) {
+		List<TownResponse> current = snapshot;
+		if (current.isEmpty())
+			return new ArrayList<>();
+
+		int offset = ThreadLocalRandom.current().nextInt(current.size());
+		int count = Math.min(size, current.size());
+		List<TownResponse> townResponses = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			townResponses.add(current.get((offset + i) % current.size()));
+		}
+		return townResponses;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refreshIfNeeded();
+	}
+
+	@Scheduled(fixedDelay = 1000 * 5)
+	public void refreshIfNeeded() {
+		boolean isExpired = System.currentTimeMillis() - refreshedAt >= REFRESH_INTERVAL;
+		if (!isChanged.getAndSet(false) && !isExpired)
+			return;
+
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			isChanged.set(true);
+			logger.warn("Failed to refresh anonymous town feed", e);
+		}
+	}
+
+	public void refresh() {
+		List<TownResponse> townResponses =
+			new ArrayList<>(randomTownSampler.findRandomTowns(SNAPSHOT_SIZE, Collections.emptyList()));
+		Collections.shuffle(townResponses, ThreadLocalRandom.current());
+		snapshot = List.copyOf(townResponses);
+		refreshedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * 수정 / 삭제된 도시는 바로 목록에서 빼고, 다음 갱신 주기에 다시 만듦
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTownChanged(TownChangedEvent event) {
+		if (event.getChangeType() == TownChangedEvent.ChangeType.MODIFY
+			|| event.getChangeType() == TownChangedEvent.ChangeType.REMOVE) {
+			snapshot = snapshot.stream()
+				.filter(townResponse -> !event.getTownIds().contains(townResponse.getId()))
+				.collect(Collectors.toUnmodifiableList());
+		}
+		isChanged.set(true);
+	}
+}
@@ -0,0 +1,58 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownFeedDto;
+import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여행중 -> 여행 예정 -> 최근 등록 -> 최근 검색 도시를 한 번의 쿼리로 조회
+ * - traveling, scheduled, recent-insert, recent-search 소스 대신 town.feed.sources 맨 앞에 두고 사용
+ * - 여행중 도시는 개수 제한 없이, 나머지는 size 개까지 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class CombinedFeedSource implements FeedSource {
+
+	private final TownRepository townRepository;
+
+	@Override
+	public String getName() {
+		return "combined";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return false;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		FeedSource.Candidates candidates = findCandidates(userId, excludeIds, size);
+		List<TownResponse> townResponses = new ArrayList<>(candidates.getUncountedTowns());
+		townResponses.addAll(candidates.getTowns());
+		return townResponses;
+	}
+
+	@Override
+	public FeedSource.Candidates findCandidates(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		TownFeedDto townFeedDto = townRepository.findFeedTowns(TownFindDto.getTownFindDto(userId, excludeIds, size));
+		return new FeedSource.Candidates(townFeedDto.getTravelingTowns(), townFeedDto.getTowns());
+	}
+}
@@ -0,0 +1,70 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자별 도시 목록의 우선순위 그룹 하나
+ * - town.feed.sources 에 이름과 최대 도시 수로 등록하면 TownFeedComposer 가 우선순위 순으로 합침
+ */
+public interface FeedSource {
+
+	String getName();
+
+	/**
+	 * 앞선 소스가 고른 도시(excludeIds) 없이 조회할 수 있으면 다른 소스와 동시에 조회
+	 */
+	boolean isIndependent();
+
+	/**
+	 * 제외할 도시 없이 더 많이 조회한 뒤 합치면서 걸러도 결과가 같은지
+	 * - town.feed.fan-out 이면 독립적인 소스처럼 다른 소스와 동시에 조회
+	 */
+	default boolean isPrefetchable() {
+		return isIndependent();
+	}
+
+	/**
+	 * 여행중 도시처럼 사용자별 도시 수(town.feed.size) 에 포함하지 않는 소스인지
+	 */
+	default boolean isCounted() {
+		return true;
+	}
+
+	/**
+	 * 우선순위 순 도시 목록
+	 * - 앞에서부터 size 개까지만 사용하고, 이미 고른 도시와 겹치는 도시는 건너뜀
+	 * - 독립적인 소스에는 빈 excludeIds 가 전달됨
+	 */
+	List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	);
+
+	/**
+	 * find 결과를 도시 수에 포함할 도시와 포함하지 않을 도시로 나눠 반환
+	 * - 여행중 도시까지 한 번에 조회하는 소스(combined) 만 재정의하며, 기본은 find 결과를 그대로 사용
+	 */
+	default Candidates findCandidates(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		return new Candidates(List.of(), find(userId, excludeIds, size));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	class Candidates {
+
+		private final List<TownResponse> uncountedTowns; // 개수 제한 없이 먼저 합칠 도시 (여행중 도시)
+
+		private final List<TownResponse> towns;
+	}
+}
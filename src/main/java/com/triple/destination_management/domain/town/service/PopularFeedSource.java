@@ -0,0 +1,44 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 도시 (PopularTownRanking 의 메모리 순위에서 제외할 도시를 빼고 size 개)
+ * - DB 를 거치지 않으므로 스레드 풀에서 미리 조회하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularFeedSource implements FeedSource {
+
+	private final PopularTownRanking popularTownRanking;
+
+	@Override
+	public String getName() {
+		return "popular";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return false;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		return popularTownRanking.getTowns().stream()
+			.filter(townResponse -> !excludeIds.contains(townResponse.getId()))
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+}
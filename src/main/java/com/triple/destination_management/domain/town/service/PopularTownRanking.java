@@ -0,0 +1,81 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+/**
+ * 인기 도시 순위 (town.popular)
+ * - 최근 기간의 여행 등록 / 검색 기록으로 순위를 주기적으로 다시 만들어 두고
+ * - 사용자별 도시 목록의 인기 도시 소스(PopularFeedSource) 가 메모리에서 바로 꺼내 씀
+ */
+@Component
+public class PopularTownRanking {
+
+	private static final Logger logger = LoggerFactory.getLogger(PopularTownRanking.class);
+
+	private final TownRepository townRepository;
+
+	private final int rankingSize;
+
+	private final int periodDays;
+
+	private volatile List<TownResponse> ranking = Collections.emptyList();
+
+	public PopularTownRanking(
+		TownRepository townRepository,
+		@Value("${town.popular.size:100}") int rankingSize,
+		@Value("${town.popular.period-days:7}") int periodDays
+	) {
+		this.townRepository = townRepository;
+		this.rankingSize = rankingSize;
+		this.periodDays = periodDays;
+	}
+
+	/**
+	 * 인기 순 도시 목록 (아직 순위가 만들어지지 않았다면 빈 목록)
+	 */
+	public List<TownResponse> getTowns() {
+		return ranking;
+	}
+
+	@Scheduled(fixedDelayString = "${town.popular.refresh-interval:300000}")
+	public void refreshRanking() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			logger.warn("Failed to refresh popular town ranking", e);
+		}
+	}
+
+	public void refresh() {
+		LocalDateTime since = LocalDateTime.now().minusDays(periodDays);
+		ranking = List.copyOf(townRepository.findPopularTowns(since, rankingSize));
+	}
+
+	/**
+	 * 수정 / 삭제된 도시는 바로 순위에서 빼고, 다음 갱신 주기에 다시 만듦
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTownChanged(TownChangedEvent event) {
+		if (event.getChangeType() == TownChangedEvent.ChangeType.REGISTER
+			|| event.getChangeType() == TownChangedEvent.ChangeType.IMPORT)
+			return;
+
+		ranking = ranking.stream()
+			.filter(townResponse -> !event.getTownIds().contains(townResponse.getId()))
+			.collect(Collectors.toUnmodifiableList());
+	}
+}
@@ -0,0 +1,39 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 무작위 도시 (앞선 소스가 고른 도시를 제외하고 샘플링)
+ */
+@Component
+@RequiredArgsConstructor
+public class RandomFeedSource implements FeedSource {
+
+	private final RandomTownSampler randomTownSampler;
+
+	@Override
+	public String getName() {
+		return "random";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return false;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		return randomTownSampler.findRandomTowns(size, excludeIds);
+	}
+}
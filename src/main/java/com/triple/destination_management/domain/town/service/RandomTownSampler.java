@@ -0,0 +1,66 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+/**
+ * 무작위 도시 조회
+ * - 메모리의 도시 아이디 배열(TownIdSampler) 에서 아이디를 뽑고 기본키 IN 조회 한 번으로 도시 정보를 채움
+ * - 도시 등록 / 삭제 커밋 후 배열을 교체하고, 다른 인스턴스에서 바뀐 도시는 town.sampler.reload-interval 마다 다시 적재
+ */
+@Component
+public class RandomTownSampler {
+
+	private final TownRepository townRepository;
+
+	private final TownIdSampler townIdSampler;
+
+	public RandomTownSampler(TownRepository townRepository) {
+		this.townRepository = townRepository;
+		this.townIdSampler = new TownIdSampler(townRepository::findAllTownIds);
+	}
+
+	/**
+	 * 제외할 도시를 뺀 무작위 도시 size 개 (후보가 모자라면 있는 만큼)
+	 */
+	public List<TownResponse> findRandomTowns(
+		int size,
+		Collection<Long> excludeIds
+	) {
+		List<Long> ids = townIdSampler.sample(size, excludeIds);
+		List<TownResponse> townResponses = townRepository.findTownsByIds(ids);
+
+		// 이미 삭제된 아이디가 섞여 있다면 아이디 목록을 다시 적재 후 재조회
+		if (townResponses.size() < ids.size()) {
+			townIdSampler.reset();
+			townResponses = townRepository.findTownsByIds(townIdSampler.sample(size, excludeIds));
+		}
+		return townResponses;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTownChanged(TownChangedEvent event) {
+		if (event.getChangeType() == TownChangedEvent.ChangeType.REGISTER)
+			townIdSampler.addAll(event.getTownIds());
+		else if (event.getChangeType() == TownChangedEvent.ChangeType.IMPORT)
+			townIdSampler.reload();
+		else if (event.getChangeType() == TownChangedEvent.ChangeType.REMOVE)
+			event.getTownIds().forEach(townIdSampler::remove);
+	}
+
+	/**
+	 * 다른 인스턴스에서 등록 / 삭제된 도시를 반영하기 위해 주기적으로 아이디 목록을 다시 적재
+	 */
+	@Scheduled(fixedDelayString = "${town.sampler.reload-interval:600000}")
+	public void reload() {
+		townIdSampler.reload();
+	}
+}
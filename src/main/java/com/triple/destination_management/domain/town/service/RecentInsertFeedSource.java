@@ -0,0 +1,46 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 하루 동안 등록된 도시
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentInsertFeedSource implements FeedSource {
+
+	private final TownRepository townRepository;
+
+	@Override
+	public String getName() {
+		return "recent-insert";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return false;
+	}
+
+	@Override
+	public boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		return townRepository.findRecentInsertTowns(TownFindDto.getTownFindDto(null, excludeIds, size));
+	}
+}
@@ -0,0 +1,46 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 7일 동안 검색한 도시
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentSearchFeedSource implements FeedSource {
+
+	private final TownRepository townRepository;
+
+	@Override
+	public String getName() {
+		return "recent-search";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return false;
+	}
+
+	@Override
+	public boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		return townRepository.findRecentSearchTowns(TownFindDto.getTownFindDto(userId, excludeIds, size));
+	}
+}
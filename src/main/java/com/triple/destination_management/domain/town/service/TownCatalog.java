@@ -0,0 +1,163 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 도시 메모리 목록 (town.catalog.enabled)
+ * - 아이디 -> 도시, 코드 -> 아이디 를 불변 스냅샷으로 두고, 도시 등록 / 수정 / 삭제 커밋 후 복사본을 만들어 통째로 교체
+ * - 조회는 잠금 없이 현재 스냅샷을 그대로 사용하므로 단건 조회 / 중복 확인에서 DB 를 거치지 않음
+ * - 최초 조회 시 한 번만 전체 도시를 적재
+ * - 다른 인스턴스에서 바뀐 도시는 town.catalog.refresh-interval 마다 전체를 다시 적재해 반영
+ */
+@Component
+public class TownCatalog {
+
+	private final TownRepository townRepository;
+
+	private final boolean isEnabled;
+
+	private volatile Snapshot snapshot;
+
+	public TownCatalog(
+		TownRepository townRepository,
+		@Value("${town.catalog.enabled:false}") boolean isEnabled
+	) {
+		this.townRepository = townRepository;
+		this.isEnabled = isEnabled;
+	}
+
+	public boolean isEnabled() {
+		return isEnabled;
+	}
+
+	public Optional<TownResponse> findTown(Long townId) {
+		return Optional.ofNullable(getSnapshot().getTowns().get(townId));
+	}
+
+	/**
+	 * 외래키 연결용 도시 (영속성 컨텍스트 밖의 객체이므로 값을 바꿔도 반영되지 않음)
+	 */
+	public Optional<Town> findTownReference(Long townId) {
+		return findTown(townId).map(townResponse -> Town.builder()
+			.id(townResponse.getId())
+			.country(townResponse.getCountry())
+			.area(townResponse.getArea())
+			.name(townResponse.getName())
+			.build());
+	}
+
+	/**
+	 * 아이디 순서대로 도시 조회 (없는 도시는 제외)
+	 * - 꺼져 있으면 기본키 IN 조회 한 번으로 채움
+	 */
+	public List<TownResponse> findTowns(List<Long> townIds) {
+		if (!isEnabled)
+			return townRepository.findTownsByIds(townIds);
+
+		Map<Long, TownResponse> towns = getSnapshot().getTowns();
+		return townIds.stream()
+			.map(towns::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	public boolean containsCode(Integer code) {
+		return getSnapshot().getTownIdsByCode().containsKey(code);
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot current = snapshot;
+		if (current != null)
+			return current;
+
+		synchronized (this) {
+			if (snapshot == null)
+				snapshot = getSnapshot(new HashMap<>(), new HashMap<>(), townRepository.findTownValues(null));
+			return snapshot;
+		}
+	}
+
+	private static Snapshot getSnapshot(
+		Map<Long, TownResponse> towns,
+		Map<Integer, Long> townIdsByCode,
+		List<Town> changedTowns
+	) {
+		for (Town town : changedTowns) {
+			towns.put(town.getId(), TownResponse.entityToDto(town));
+			if (town.getCode() != null)
+				townIdsByCode.put(town.getCode(), town.getId());
+		}
+		return new Snapshot(Collections.unmodifiableMap(towns), Collections.unmodifiableMap(townIdsByCode));
+	}
+
+	/**
+	 * 변경된 도시만 다시 조회해 새 스냅샷으로 교체 (아직 적재 전이면 최초 조회 시 함께 적재됨)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onTownChanged(TownChangedEvent event) {
+		Snapshot current = snapshot;
+		if (!isEnabled || current == null)
+			return;
+
+		if (event.getChangeType() == TownChangedEvent.ChangeType.IMPORT) {
+			reload();
+			return;
+		}
+
+		Map<Long, TownResponse> towns = new HashMap<>(current.getTowns());
+		Map<Integer, Long> townIdsByCode = new HashMap<>(current.getTownIdsByCode());
+		if (event.getChangeType() != TownChangedEvent.ChangeType.REGISTER) {
+			Set<Long> townIds = new HashSet<>(event.getTownIds());
+			towns.keySet().removeAll(townIds);
+			townIdsByCode.values().removeIf(townIds::contains);
+		}
+
+		List<Town> changedTowns = event.getChangeType() == TownChangedEvent.ChangeType.REMOVE
+			? Collections.emptyList() : townRepository.findTownValues(event.getTownIds());
+		snapshot = getSnapshot(towns, townIdsByCode, changedTowns);
+	}
+
+	/**
+	 * 이미 적재된 경우에만 전체 도시를 다시 적재
+	 */
+	@Scheduled(fixedDelayString = "${town.catalog.refresh-interval:600000}")
+	public synchronized void refresh() {
+		if (!isEnabled || snapshot == null)
+			return;
+		reload();
+	}
+
+	private void reload() {
+		snapshot = getSnapshot(new HashMap<>(), new HashMap<>(), townRepository.findTownValues(null));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class Snapshot {
+
+		private final Map<Long, TownResponse> towns;
+
+		private final Map<Integer, Long> townIdsByCode;
+	}
+}
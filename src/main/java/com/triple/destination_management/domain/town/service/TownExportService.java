@@ -0,0 +1,51 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TownExportService {
+
+	private static final int FETCH_SIZE = 1000;
+
+	private final TownRepository townRepository;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 전체 도시 NDJSON 으로 내보내기
+	 * - 한 줄에 도시 하나씩 바로 출력하므로 도시 수와 관계없이 메모리 사용량이 일정하다.
+	 */
+	public void exportTowns(OutputStream outputStream) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(TownResponse.class)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+		try (
+			Stream<TownResponse> towns = townRepository.streamAllTowns(FETCH_SIZE);
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+		) {
+			generator.setRootValueSeparator(null); // 구분자는 직접 줄바꿈으로 출력
+			Iterator<TownResponse> iterator = towns.iterator();
+			while (iterator.hasNext()) {
+				writer.writeValue(generator, iterator.next());
+				generator.writeRaw('\n');
+			}
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 도시 목록 캐시
+ * - 여행 / 검색 / 도시 변경 시 커밋 이후 관련된 목록만 무효화
+ * - 여행 시작일 / 종료일이 지나면 우선순위가 바뀌므로 가장 가까운 여행 경계 시점에 만료
+ */
+@Component
+@RequiredArgsConstructor
+public class TownFeedCache {
+
+	private static final Duration MAX_TTL = Duration.ofMinutes(10); // 최근 등록 / 검색 / 무작위 도시 갱신 주기
+
+	private static final int MAX_SIZE = 100_000;
+
+	private static final int EVICT_SIZE = MAX_SIZE / 10; // 가득 차면 한 번에 비울 목록 수
+
+	private static final int VERSION_STRIPES = 4096; // 사용자별 무효화 시점을 나눠 담을 칸 수
+
+	private final TripIntervalIndex tripIntervalIndex;
+
+	private final Map<Long, CachedFeed> feeds = new ConcurrentHashMap<>();
+
+	private final AtomicLong version = new AtomicLong();
+
+	private final AtomicLong allEvictedVersion = new AtomicLong(); // 전체 / 도시 기준 무효화 시점
+
+	private final AtomicLongArray userEvictedVersions = new AtomicLongArray(VERSION_STRIPES); // 사용자 기준 무효화 시점
+
+	public long getVersion() {
+		return version.get();
+	}
+
+	public Optional<List<TownResponse>> get(Long userId) {
+		CachedFeed feed = feeds.get(userId);
+		if (feed == null)
+			return Optional.empty();
+
+		if (feed.isExpired(LocalDateTime.now())) {
+			feeds.remove(userId, feed);
+			return Optional.empty();
+		}
+		return Optional.of(feed.getTownResponses());
+	}
+
+	/**
+	 * 조회를 시작한 시점(loadedVersion) 이후 해당 사용자의 목록이 무효화되었다면 저장하지 않음
+	 * - 다른 사용자의 무효화는 영향을 주지 않음 (사용자 아이디를 나눠 담은 칸이 겹치는 경우만 함께 저장하지 않음)
+	 */
+	public void put(
+		Long userId,
+		List<TownResponse> townResponses,
+		long loadedVersion
+	) {
+		if (isEvictedAfter(userId, loadedVersion))
+			return;
+
+		LocalDateTime now = LocalDateTime.now();
+		trim(now);
+		CachedFeed feed = new CachedFeed(List.copyOf(townResponses), getExpireDate(userId, now));
+		feeds.put(userId, feed);
+
+		if (isEvictedAfter(userId, loadedVersion))
+			feeds.remove(userId, feed);
+	}
+
+	private boolean isEvictedAfter(
+		Long userId,
+		long loadedVersion
+	) {
+		return allEvictedVersion.get() > loadedVersion
+			|| userEvictedVersions.get(getStripe(userId)) > loadedVersion;
+	}
+
+	private static int getStripe(Long userId) {
+		return Math.floorMod(userId.hashCode(), VERSION_STRIPES);
+	}
+
+	/**
+	 * 가득 차면 만료된 목록을 비우고, 그래도 모자라면 EVICT_SIZE 만큼 한 번에 비움
+	 * - 전체를 훑는 비용이 EVICT_SIZE 번의 저장에 한 번만 발생
+	 */
+	private void trim(LocalDateTime now) {
+		if (feeds.size() < MAX_SIZE)
+			return;
+
+		synchronized (this) {
+			if (feeds.size() < MAX_SIZE)
+				return;
+
+			feeds.values().removeIf(feed -> feed.isExpired(now));
+			Iterator<Long> userIds = feeds.keySet().iterator();
+			while (feeds.size() > MAX_SIZE - EVICT_SIZE && userIds.hasNext()) {
+				userIds.next();
+				userIds.remove();
+			}
+		}
+	}
+
+	private LocalDateTime getExpireDate(
+		Long userId,
+		LocalDateTime now
+	) {
+		LocalDateTime expireDate = now.plus(MAX_TTL);
+		return tripIntervalIndex.findNextBoundary(userId, now)
+			.filter(tripBoundary -> tripBoundary.isBefore(expireDate))
+			.orElse(expireDate);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(TownFeedEvictEvent event) {
+		long evictedVersion = version.incrementAndGet();
+		if (event.getUserId() != null) {
+			userEvictedVersions.accumulateAndGet(getStripe(event.getUserId()), evictedVersion, Math::max);
+			feeds.remove(event.getUserId());
+			return;
+		}
+
+		// 도시가 바뀌면 조회 중인 모든 사용자의 목록에 포함될 수 있으므로 전체 기준으로 기록
+		allEvictedVersion.accumulateAndGet(evictedVersion, Math::max);
+		if (event.isAll())
+			feeds.clear();
+		else
+			feeds.values().removeIf(feed -> feed.containsTown(event.getTownId()));
+	}
+
+	/**
+	 * 새 도시는 모든 목록의 최근 등록 도시가 될 수 있으므로 전체 무효화
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(TownChangedEvent event) {
+		if (event.getChangeType() == TownChangedEvent.ChangeType.REGISTER
+			|| event.getChangeType() == TownChangedEvent.ChangeType.IMPORT)
+			evict(TownFeedEvictEvent.ofAll());
+		else
+			event.getTownIds().forEach(townId -> evict(TownFeedEvictEvent.ofTown(townId)));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class CachedFeed {
+
+		private final List<TownResponse> townResponses;
+
+		private final LocalDateTime expireDate;
+
+		private boolean isExpired(LocalDateTime now) {
+			return !now.isBefore(expireDate);
+		}
+
+		private boolean containsTown(Long townId) {
+			return townResponses.stream().anyMatch(townResponse -> townId.equals(townResponse.getId()));
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자별 도시 목록 조합 (town.feed)
+ * - town.feed.sources 에 적힌 순서가 우선순위이며, 소스마다 최대 도시 수(이름:개수, 생략 시 size) 를 지정
+ * - 앞선 소스의 결과가 필요 없는 소스는 미리 제한된 크기의 스레드 풀에서 동시에 조회하고, 우선순위 순으로 합치며 중복 제거
+ * - town.feed.fan-out 이면 제외할 도시로만 앞선 소스에 의존하는 소스(여행 예정, 최근 등록, 최근 검색) 도
+ *   앞선 소스가 고를 수 있는 수만큼 더 조회하는 방식으로 동시에 조회 (DB 왕복을 한 번의 대기 시간으로)
+ * - 도시 수에 포함되는 소스는 목록이 이미 size 개 이상이면 조회하지 않음 (여행중 도시는 개수 제한 없음)
+ * - combined 소스는 여행중 / 여행 예정 / 최근 등록 / 최근 검색 도시를 한 번의 쿼리로 조회하므로 네 소스 대신 사용
+ */
+@Component
+public class TownFeedComposer {
+
+	private static final int UNLIMITED = -1;
+
+	private final List<FeedStep> feedSteps;
+
+	private final int feedSize;
+
+	private final boolean isFanOut;
+
+	private final ThreadPoolExecutor executor;
+
+	public TownFeedComposer(
+		List<FeedSource> feedSources,
+		@Value("${town.feed.size:10}") int feedSize,
+		@Value("${town.feed.sources:traveling:-1,scheduled,recent-insert,recent-search,popular,random}")
+		List<String> sourceSpecs,
+		@Value("${town.feed.pool-size:8}") int poolSize,
+		@Value("${town.feed.fan-out:false}") boolean isFanOut
+	) {
+		Map<String, FeedSource> sources = feedSources.stream()
+			.collect(Collectors.toMap(FeedSource::getName, Function.identity()));
+		this.feedSteps = sourceSpecs.stream()
+			.map(sourceSpec -> getFeedStep(sources, sourceSpec, feedSize))
+			.collect(Collectors.toUnmodifiableList());
+		this.feedSize = feedSize;
+		this.isFanOut = isFanOut;
+		// 풀과 대기열이 모두 차면 요청 스레드에서 직접 조회
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(poolSize * 16), new CustomizableThreadFactory("town-feed-"),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	private static FeedStep getFeedStep(
+		Map<String, FeedSource> sources,
+		String sourceSpec,
+		int feedSize
+	) {
+		String[] tokens = sourceSpec.split(":");
+		FeedSource feedSource = sources.get(tokens[0].trim());
+		if (feedSource == null)
+			throw new IllegalArgumentException("Unknown feed source: " + sourceSpec);
+
+		int budget = tokens.length > 1 ? Integer.parseInt(tokens[1].trim()) : feedSize;
+		return new FeedStep(feedSource, budget);
+	}
+
+	public List<TownResponse> compose(Long userId) {
+		Map<FeedStep, CompletableFuture<FeedSource.Candidates>> prefetched = prefetch(userId);
+
+		Map<Long, TownResponse> townResponses = new LinkedHashMap<>();
+		int countedSize = 0;
+		for (FeedStep feedStep : feedSteps) {
+			FeedSource feedSource = feedStep.getFeedSource();
+			CompletableFuture<FeedSource.Candidates> future = prefetched.get(feedStep);
+			if (feedSource.isCounted() && townResponses.size() >= feedSize) {
+				if (future != null)
+					future.cancel(false);
+				continue;
+			}
+
+			int limit = feedStep.getLimit(feedSource.isCounted() ? feedSize - countedSize : Integer.MAX_VALUE);
+			Collection<Long> excludeIds = Collections.unmodifiableSet(townResponses.keySet());
+			FeedSource.Candidates candidates = future != null
+				? join(future) : feedSource.findCandidates(userId, excludeIds, limit);
+			merge(townResponses, candidates.getUncountedTowns(), Integer.MAX_VALUE);
+			int added = merge(townResponses, candidates.getTowns(), limit);
+
+			// 미리 조회한 도시가 앞선 소스와 겹쳐 모자라면 제외할 도시를 넘겨 다시 조회
+			if (future != null && added < limit && candidates.getTowns().size() >= getPrefetchSize(feedStep))
+				added += merge(townResponses, feedSource.find(userId, excludeIds, limit - added), limit - added);
+			if (feedSource.isCounted())
+				countedSize += added;
+		}
+		return new ArrayList<>(townResponses.values());
+	}
+
+	private static int merge(
+		Map<Long, TownResponse> townResponses,
+		List<TownResponse> candidates,
+		int limit
+	) {
+		int added = 0;
+		for (TownResponse candidate : candidates) {
+			if (added >= limit)
+				break;
+			if (townResponses.putIfAbsent(candidate.getId(), candidate) == null)
+				added++;
+		}
+		return added;
+	}
+
+	/**
+	 * 독립적인 소스(fan-out 이면 미리 조회할 수 있는 소스) 는 첫 번째 소스를 제외하고 미리 조회 시작
+	 * - 첫 번째 소스는 요청 스레드에서 조회
+	 */
+	private Map<FeedStep, CompletableFuture<FeedSource.Candidates>> prefetch(Long userId) {
+		Map<FeedStep, CompletableFuture<FeedSource.Candidates>> prefetched = new HashMap<>();
+		for (FeedStep feedStep : feedSteps.subList(Math.min(1, feedSteps.size()), feedSteps.size())) {
+			FeedSource feedSource = feedStep.getFeedSource();
+			if (!feedSource.isIndependent() && !(isFanOut && feedSource.isPrefetchable()))
+				continue;
+
+			int prefetchSize = getPrefetchSize(feedStep);
+			prefetched.put(feedStep, CompletableFuture.supplyAsync(
+				() -> feedSource.findCandidates(userId, Collections.emptySet(), prefetchSize), executor));
+		}
+		return prefetched;
+	}
+
+	/**
+	 * 앞선 소스가 고를 수 있는 도시 수(feedSize) 만큼 더 조회
+	 */
+	private int getPrefetchSize(FeedStep feedStep) {
+		if (!feedStep.getFeedSource().isCounted())
+			return feedStep.getLimit(Integer.MAX_VALUE);
+		return feedStep.getLimit(feedSize) + feedSize;
+	}
+
+	private static FeedSource.Candidates join(CompletableFuture<FeedSource.Candidates> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw e;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class FeedStep {
+
+		private final FeedSource feedSource;
+
+		private final int budget; // 소스별 최대 도시 수 (UNLIMITED 면 제한 없음)
+
+		private int getLimit(int remainingSize) {
+			return budget == UNLIMITED ? remainingSize : Math.min(budget, remainingSize);
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 정렬된 도시 아이디 배열에서 무작위 아이디를 뽑는 샘플러
+ * - 최초 조회 시 한 번만 전체 아이디를 적재하고, 이후에는 도시 등록 / 삭제 시 배열을 교체
+ * - 다른 인스턴스에서 등록 / 삭제된 도시는 주기적으로 전체를 다시 적재해 반영
+ * - 조회는 잠금 없이 현재 배열을 그대로 사용
+ */
+class TownIdSampler {
+
+	private static final int MAX_ATTEMPT_RATE = 10;
+
+	private final Supplier<long[]> loader;
+
+	private volatile long[] ids;
+
+	TownIdSampler(Supplier<long[]> loader) {
+		this.loader = loader;
+	}
+
+	List<Long> sample(
+		int size,
+		Collection<Long> excludeIds
+	) {
+		long[] current = getIds();
+		if (size <= 0 || current.length == 0)
+			return new ArrayList<>();
+
+		Set<Long> excludes = new HashSet<>(excludeIds);
+		if ((long)size * 2 >= current.length - excludes.size())
+			return shuffle(current, size, excludes);
+
+		// 후보가 충분히 많으면 중복 / 제외 아이디만 건너뛰며 무작위로 선택
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Set<Long> sampledIds = new LinkedHashSet<>();
+		for (int attempt = 0; sampledIds.size() < size && attempt < size * MAX_ATTEMPT_RATE; attempt++) {
+			long id = current[random.nextInt(current.length)];
+			if (!excludes.contains(id))
+				sampledIds.add(id);
+		}
+		return new ArrayList<>(sampledIds);
+	}
+
+	private List<Long> shuffle(
+		long[] current,
+		int size,
+		Set<Long> excludes
+	) {
+		List<Long> candidates = new ArrayList<>();
+		for (long id : current) {
+			if (!excludes.contains(id))
+				candidates.add(id);
+		}
+		Collections.shuffle(candidates, ThreadLocalRandom.current());
+		return new ArrayList<>(candidates.subList(0, Math.min(size, candidates.size())));
+	}
+
+	private long[] getIds() {
+		long[] current = ids;
+		if (current != null)
+			return current;
+
+		synchronized (this) {
+			if (ids == null)
+				ids = loader.get();
+			return ids;
+		}
+	}
+
+	synchronized void reset() {
+		ids = null;
+	}
+
+	/**
+	 * 이미 적재된 경우에만 전체 아이디를 다시 적재해 교체 (조회는 적재하는 동안에도 기존 배열을 사용)
+	 */
+	synchronized void reload() {
+		if (ids != null)
+			ids = loader.get();
+	}
+
+	synchronized void addAll(Collection<Long> newIds) {
+		long[] current = ids;
+		if (current == null || newIds.isEmpty()) // 아직 적재 전이면 최초 조회 시 함께 적재됨
+			return;
+
+		long[] added = newIds.stream()
+			.mapToLong(Long::longValue)
+			.filter(id -> Arrays.binarySearch(current, id) < 0)
+			.sorted()
+			.distinct()
+			.toArray();
+		if (added.length == 0)
+			return;
+
+		// 정렬된 두 배열을 병합
+		long[] next = new long[current.length + added.length];
+		int i = 0, j = 0, k = 0;
+		while (i < current.length && j < added.length) {
+			next[k++] = current[i] < added[j] ? current[i++] : added[j++];
+		}
+		while (i < current.length) {
+			next[k++] = current[i++];
+		}
+		while (j < added.length) {
+			next[k++] = added[j++];
+		}
+		ids = next;
+	}
+
+	synchronized void remove(Long id) {
+		long[] current = ids;
+		if (current == null)
+			return;
+
+		int index = Arrays.binarySearch(current, id);
+		if (index < 0)
+			return;
+
+		long[] next = new long[current.length - 1];
+		System.arraycopy(current, 0, next, 0, index);
+		System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+		ids = next;
+	}
+}
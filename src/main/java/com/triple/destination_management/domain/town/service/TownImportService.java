@@ -0,0 +1,136 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.triple.destination_management.domain.town.dto.TownImportResponse;
+import com.triple.destination_management.domain.town.dto.TownRequest;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.exception.TownImportException;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TownImportService {
+
+	public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+	public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private static final int CHUNK_SIZE = 1000; // 한 트랜잭션에서 커밋할 행 수
+
+	private static final ObjectReader CSV_READER = new CsvMapper()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+		.readerFor(TownRequest.class)
+		.with(CsvSchema.emptySchema().withHeader());
+
+	private final TownRepository townRepository;
+
+	private final ObjectMapper objectMapper;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final EntityManager entityManager;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 도시 대량 가져오기 (NDJSON / CSV)
+	 * - 요청 본문을 한 행씩 읽어 CHUNK_SIZE 단위로 커밋하므로 전체 목록을 메모리에 올리지 않는다.
+	 * - 이미 처리된 청크는 이후 행에서 오류가 나더라도 롤백되지 않는다.
+	 * - 도시 변경 이벤트는 청크마다가 아니라 가져오기가 끝난 뒤 한 번만 발행한다. (오류로 중단되어도 커밋된 청크가 있으면 발행)
+	 */
+	public TownImportResponse importTowns(
+		InputStream inputStream,
+		MediaType mediaType
+	) {
+		TownImportResponse townImportResponse = new TownImportResponse();
+		try (MappingIterator<TownRequest> townRequests = getReader(mediaType).readValues(inputStream)) {
+			List<TownRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+			while (townRequests.hasNextValue()) {
+				chunk.add(townRequests.nextValue());
+				if (chunk.size() == CHUNK_SIZE) {
+					importChunk(chunk, townImportResponse);
+					chunk.clear();
+				}
+			}
+			importChunk(chunk, townImportResponse);
+		} catch (IOException | RuntimeJsonMappingException e) {
+			throw new TownImportException(e);
+		} finally {
+			if (townImportResponse.getImported() > 0)
+				eventPublisher.publishEvent(TownChangedEvent.imported());
+		}
+		return townImportResponse;
+	}
+
+	private ObjectReader getReader(MediaType mediaType) {
+		if (TEXT_CSV.isCompatibleWith(mediaType))
+			return CSV_READER;
+		return objectMapper.readerFor(TownRequest.class);
+	}
+
+	private void importChunk(
+		List<TownRequest> chunk,
+		TownImportResponse townImportResponse
+	) {
+		Map<Integer, Town> towns = new LinkedHashMap<>();
+		for (TownRequest townRequest : chunk) {
+			if (isInvalid(townRequest)) {
+				townImportResponse.setInvalid(townImportResponse.getInvalid() + 1);
+				continue;
+			}
+			Town town = TownRequest.dtoToEntity(townRequest);
+			if (towns.putIfAbsent(town.getCode(), town) != null)
+				townImportResponse.setDuplicated(townImportResponse.getDuplicated() + 1);
+		}
+		if (towns.isEmpty())
+			return;
+
+		transactionTemplate.executeWithoutResult(status -> {
+			// 청크 단위로 한 번에 중복 확인
+			for (Town town : townRepository.findAllByCodeIn(towns.keySet())) {
+				towns.remove(town.getCode());
+				townImportResponse.setDuplicated(townImportResponse.getDuplicated() + 1);
+			}
+			if (towns.isEmpty())
+				return;
+
+			List<Town> savedTowns = townRepository.saveAll(towns.values());
+			entityManager.flush();
+			entityManager.clear();
+
+			townImportResponse.setImported(townImportResponse.getImported() + savedTowns.size());
+		});
+	}
+
+	private boolean isInvalid(TownRequest townRequest) {
+		return townRequest == null
+			|| !StringUtils.hasText(townRequest.getCountry())
+			|| !StringUtils.hasText(townRequest.getName());
+	}
+}
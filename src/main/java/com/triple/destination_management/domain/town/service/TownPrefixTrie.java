@@ -0,0 +1,79 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자열 키 -> 도시 아이디 접두어 트라이
+ * - 읽기는 잠금 없이 동시에 가능하고, 쓰기는 호출하는 쪽에서 직렬화해야 한다.
+ * - 삭제 시 빈 노드는 정리하지 않는다. (다음 전체 재적재 때 정리됨)
+ */
+class TownPrefixTrie {
+
+	private final Node root = new Node();
+
+	void add(
+		String key,
+		Long townId
+	) {
+		Node node = root;
+		for (int i = 0; i < key.length(); i++) {
+			node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+		}
+		node.townIds.add(townId);
+	}
+
+	void remove(
+		String key,
+		Long townId
+	) {
+		Node node = find(key);
+		if (node != null)
+			node.townIds.remove(townId);
+	}
+
+	/**
+	 * 접두어 아래의 도시 아이디를 짧은 키부터(BFS) 최대 limit 개 반환
+	 */
+	Set<Long> search(
+		String prefix,
+		int limit
+	) {
+		Set<Long> townIds = new LinkedHashSet<>();
+		Node start = find(prefix);
+		if (start == null)
+			return townIds;
+
+		Queue<Node> queue = new ArrayDeque<>();
+		queue.add(start);
+		while (!queue.isEmpty() && townIds.size() < limit) {
+			Node node = queue.poll();
+			for (Long townId : node.townIds) {
+				townIds.add(townId);
+				if (townIds.size() == limit)
+					break;
+			}
+			queue.addAll(node.children.values());
+		}
+		return townIds;
+	}
+
+	private Node find(String key) {
+		Node node = root;
+		for (int i = 0; i < key.length() && node != null; i++) {
+			node = node.children.get(key.charAt(i));
+		}
+		return node;
+	}
+
+	private static class Node {
+
+		private final Map<Character, Node> children = new ConcurrentHashMap<>();
+
+		private final Set<Long> townIds = ConcurrentHashMap.newKeySet();
+	}
+}
@@ -1,21 +1,27 @@
 package com.triple.destination_management.domain.town.service;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
+import com.triple.destination_management.domain.town.dto.TownPageResponse;
 import com.triple.destination_management.domain.town.dto.TownRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
 import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
 import com.triple.destination_management.domain.town.exception.TownDependencyException;
 import com.triple.destination_management.domain.town.exception.TownDuplicatedException;
 import com.triple.destination_management.domain.town.exception.TownNotFoundException;
 import com.triple.destination_management.domain.town.repository.TownRepository;
 import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.global.exception.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,10 +30,24 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class TownService {
 
+	private static final String CODE_UNIQUE_KEY = "uk_town_code";
+
 	private final TownRepository townRepository;
 
 	private final TripRepository tripRepository;
 
+	private final TownFeedCache townFeedCache;
+
+	private final AnonymousTownFeed anonymousTownFeed;
+
+	private final TownSuggester townSuggester;
+
+	private final TownFeedComposer townFeedComposer;
+
+	private final TownCatalog townCatalog;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	private final Integer BASE_SIZE = 10;
 
 	/**
@@ -41,13 +61,51 @@ public class TownService {
 			throw new TownDuplicatedException();
 
 		Town savedTown = townRepository.save(town);
+		flushWithCode();
+		eventPublisher.publishEvent(TownChangedEvent.registered(savedTown.getId()));
 		return TownResponse.entityToDto(savedTown);
 	}
 
 	private boolean isDuplicatedTown(Town town) {
+		if (townCatalog.isEnabled())
+			return townCatalog.containsCode(town.getCode());
 		return townRepository.findTownByCode(town.getCode()).isPresent();
 	}
 
+	/**
+	 * 중복 확인 이후(또는 catalog 가 갱신되기 전) 같은 코드가 등록되었다면 코드 유니크 제약 위반으로 확인한다
+	 */
+	private void flushWithCode() {
+		try {
+			townRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			if (ConstraintViolations.isViolated(e, CODE_UNIQUE_KEY))
+				throw new TownDuplicatedException();
+			throw e;
+		}
+	}
+
+	/**
+	 * 도시 일괄 등록하기
+	 */
+	@Transactional
+	public List<TownResponse> registerTowns(List<TownRequest> townRequests) {
+		Map<Integer, Town> towns = new LinkedHashMap<>();
+		for (TownRequest townRequest : townRequests) {
+			Town town = TownRequest.dtoToEntity(townRequest);
+			towns.putIfAbsent(town.getCode(), town);
+		}
+
+		if (towns.size() != townRequests.size() || !townRepository.findAllByCodeIn(towns.keySet()).isEmpty())
+			throw new TownDuplicatedException();
+
+		List<Town> savedTowns = townRepository.saveAll(towns.values());
+		flushWithCode();
+		List<Long> townIds = savedTowns.stream().map(Town::getId).collect(Collectors.toList());
+		eventPublisher.publishEvent(TownChangedEvent.registered(townIds));
+		return savedTowns.stream().map(TownResponse::entityToDto).collect(Collectors.toList());
+	}
+
 	/**
 	 * 도시 수정하기
 	 */
@@ -63,6 +121,7 @@ public class TownService {
 		town.setCountry(townRequest.getCountry());
 		town.setArea(townRequest.getArea());
 		town.setName(townRequest.getName());
+		eventPublisher.publishEvent(TownChangedEvent.modified(townId));
 		return TownResponse.entityToDto(town);
 	}
 
@@ -74,6 +133,7 @@ public class TownService {
 		Town town = getTownById(townId);
 		if (tripRepository.findFirstByTown(town).isEmpty()) {
 			townRepository.delete(town);
+			eventPublisher.publishEvent(TownChangedEvent.removed(townId));
 			return town.getId();
 		} else {
 			throw new TownDependencyException();
@@ -84,6 +144,9 @@ public class TownService {
 	 * 단일 도시 조회하기
 	 */
 	public TownResponse findTown(Long townId) {
+		if (townCatalog.isEnabled())
+			return townCatalog.findTown(townId).orElseThrow(TownNotFoundException::new);
+
 		Town town = getTownById(townId);
 		return TownResponse.entityToDto(town);
 	}
@@ -93,94 +156,40 @@ public class TownService {
 	}
 
 	/**
-	 * 사용자별 도시 목록 조회하기
+	 * 도시 자동완성 조회하기
 	 */
-	public List<TownResponse> findTownsByUser(Long userId) {
-		if (userId == null) // 익명 사용자일 경우 기본 상위 10개 도시 반환
-			return townRepository.findTownsByLimit();
-
-		// 여행중인 도시
-		List<TownResponse> travelingTowns = townRepository.findTravelingTowns(userId);
-		List<TownResponse> townResponses = new ArrayList<>(travelingTowns);
-		List<Long> townIds = townResponses.stream().map(TownResponse::getId).collect(Collectors.toList());
-
-		// 여행 예정인 도시
-		if (isFullSize(townResponses)) {
-			List<TownResponse> scheduledTowns = getScheduledTowns(userId, travelingTowns, townResponses, townIds);
-			townResponses.addAll(scheduledTowns);
-			townIds.addAll(scheduledTowns.stream().map(TownResponse::getId).collect(Collectors.toList()));
-		}
-
-		// 최근 등록된 도시
-		if (isFullSize(townResponses)) {
-			List<TownResponse> recentInsertTowns = getRecentInsertTowns(travelingTowns, townResponses, townIds);
-			townResponses.addAll(recentInsertTowns);
-			townIds.addAll(recentInsertTowns.stream().map(TownResponse::getId).collect(Collectors.toList()));
-		}
-
-		// 최근 검색된 도시
-		if (isFullSize(townResponses)) {
-			List<TownResponse> recentSearchTowns = getRecentSearchTowns(userId, travelingTowns, townResponses, townIds);
-			townResponses.addAll(recentSearchTowns);
-			townIds.addAll(recentSearchTowns.stream().map(TownResponse::getId).collect(Collectors.toList()));
-		}
-
-		// 무작위 도시
-		if (isFullSize(townResponses)) {
-			List<TownResponse> randomTowns = getRandomTowns(travelingTowns, townResponses, townIds);
-			townResponses.addAll(randomTowns);
-		}
-
-		return townResponses;
+	public List<TownResponse> suggestTowns(String query) {
+		return townSuggester.suggest(query, BASE_SIZE);
 	}
 
-	private boolean isFullSize(List<TownResponse> townResponses) {
-		return townResponses.size() < BASE_SIZE;
+	/**
+	 * 도시 목록 페이지 조회하기
+	 */
+	public TownPageResponse findTownPage(TownPageRequest townPageRequest) {
+		List<TownResponse> townResponses = townRepository.findTownsAfter(townPageRequest);
+		return TownPageResponse.of(townResponses, townPageRequest.getSize());
 	}
 
-	private List<TownResponse> getRandomTowns(
-		List<TownResponse> travelingTowns,
-		List<TownResponse> townResponses,
-		List<Long> townIds
-	) {
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(null, townIds, getSize(travelingTowns, townResponses));
-		return townRepository.findRandomTowns(townFindDto);
-	}
+	/**
+	 * 사용자별 도시 목록 조회하기
+	 */
+	public List<TownResponse> findTownsByUser(Long userId) {
+		if (userId == null) // 익명 사용자일 경우 미리 섞어둔 도시 10개 반환
+			return getAnonymousTowns();
 
-	private List<TownResponse> getRecentSearchTowns(
-		Long userId,
-		List<TownResponse> travelingTowns,
-		List<TownResponse> townResponses,
-		List<Long> townIds
-	) {
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(userId, townIds, getSize(travelingTowns, townResponses));
-		return townRepository.findRecentSearchTowns(townFindDto);
+		return townFeedCache.get(userId).orElseGet(() -> getFeedTowns(userId));
 	}
 
-	private List<TownResponse> getRecentInsertTowns(
-		List<TownResponse> travelingTowns,
-		List<TownResponse> townResponses,
-		List<Long> townIds
-	) {
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(null, townIds, getSize(travelingTowns, townResponses));
-		return townRepository.findRecentInsertTowns(townFindDto);
+	private List<TownResponse> getAnonymousTowns() {
+		return anonymousTownFeed.getTowns(BASE_SIZE); // 미리 섞어둔 목록만 사용하고 DB 는 조회하지 않음
 	}
 
-	private List<TownResponse> getScheduledTowns(
-		Long userId,
-		List<TownResponse> travelingTowns,
-		List<TownResponse> townResponses,
-		List<Long> townIds
-	) {
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(userId, townIds, getSize(travelingTowns, townResponses));
-		return townRepository.findScheduledTowns(townFindDto);
-	}
+	private List<TownResponse> getFeedTowns(Long userId) {
+		long version = townFeedCache.getVersion();
 
-	private int getSize(
-		List<TownResponse> travelingIds,
-		List<TownResponse> townIds
-	) {
-		return BASE_SIZE + travelingIds.size() - townIds.size();
+		// 우선순위는 town.feed.sources (기본: 여행중 -> 여행 예정 -> 최근 등록 -> 최근 검색 -> 인기 도시 -> 무작위 도시)
+		List<TownResponse> townResponses = townFeedComposer.compose(userId);
+		townFeedCache.put(userId, townResponses, version);
+		return townResponses;
 	}
-
 }
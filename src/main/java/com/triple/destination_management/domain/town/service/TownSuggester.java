@@ -0,0 +1,222 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
+import com.triple.destination_management.domain.town.dto.TownPageResponse;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도시 자동완성 색인
+ * - 도시명 / 지역 / 국가를 자모 단위로 분해한 트라이와 초성 트라이에 올려두고 접두어로 조회
+ * - 처음 조회 시 전체를 적재하고, 이후에는 도시 변경 이벤트로 변경분만 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class TownSuggester {
+
+	private static final int LOAD_SIZE = 1000;
+
+	private static final char HANGUL_BEGIN = '가';
+	private static final char HANGUL_END = '힣';
+
+	private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+	// 겹모음 / 겹받침은 입력 순서대로 풀어서 중간 입력 상태도 접두어가 되도록 함
+	private static final String[] JUNGSEONG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+		"ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+	private static final String[] JONGSEONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+		"ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+		Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"), Map.entry('ㄳ', "ㄱㅅ"),
+		Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"),
+		Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+		Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+	);
+
+	private final TownRepository townRepository;
+
+	private volatile SuggestIndex suggestIndex = new SuggestIndex();
+
+	private volatile boolean isLoaded;
+
+	/**
+	 * 접두어로 도시 자동완성 (초성만 입력한 경우 초성으로 비교)
+	 */
+	public List<TownResponse> suggest(
+		String query,
+		int size
+	) {
+		if (!isLoaded)
+			load();
+
+		String keyword = normalize(query);
+		if (keyword.isEmpty())
+			return new ArrayList<>();
+
+		return suggestIndex.search(keyword, size);
+	}
+
+	private synchronized void load() {
+		if (!isLoaded)
+			reload();
+	}
+
+	/**
+	 * 색인을 새로 만들어 통째로 교체
+	 */
+	public synchronized void reload() {
+		SuggestIndex newIndex = new SuggestIndex();
+		Long after = null;
+		TownPageResponse townPageResponse;
+		do {
+			TownPageRequest townPageRequest = TownPageRequest.builder().after(after).size(LOAD_SIZE).build();
+			townPageResponse = TownPageResponse.of(townRepository.findTownsAfter(townPageRequest), LOAD_SIZE);
+			townPageResponse.getTowns().forEach(newIndex::add);
+			after = townPageResponse.getNextCursor();
+		} while (townPageResponse.isHasNext());
+
+		suggestIndex = newIndex;
+		isLoaded = true;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onTownChanged(TownChangedEvent event) {
+		if (!isLoaded) // 아직 적재 전이라면 첫 조회 때 전부 반영됨
+			return;
+
+		if (event.getChangeType() == TownChangedEvent.ChangeType.IMPORT) {
+			reload();
+			return;
+		}
+
+		event.getTownIds().forEach(suggestIndex::remove);
+		if (event.getChangeType() != TownChangedEvent.ChangeType.REMOVE) {
+			townRepository.findAllById(event.getTownIds()).stream()
+				.map(TownResponse::entityToDto)
+				.forEach(suggestIndex::add);
+		}
+	}
+
+	/**
+	 * 도시명 / 지역 / 국가 전체와 띄어쓰기로 나눈 단어를 각각 키로 사용
+	 */
+	private static Set<String> getKeys(TownResponse townResponse) {
+		Set<String> keys = new HashSet<>();
+		for (String field : new String[] {townResponse.getName(), townResponse.getArea(), townResponse.getCountry()}) {
+			String key = normalize(field);
+			if (key.isEmpty())
+				continue;
+			keys.add(key);
+			keys.addAll(List.of(key.split(" ")));
+		}
+		return keys;
+	}
+
+	private static String normalize(String text) {
+		if (!StringUtils.hasText(text))
+			return "";
+		return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean isChoseong(String keyword) {
+		return keyword.chars().allMatch(c -> CHOSEONG.indexOf(c) >= 0);
+	}
+
+	/**
+	 * 한글 음절을 자모로 분해 (예: 서울 -> ㅅㅓㅇㅜㄹ)
+	 */
+	static String toJamo(String text) {
+		StringBuilder jamo = new StringBuilder(text.length() * 3);
+		for (char c : text.toCharArray()) {
+			if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+				int index = c - HANGUL_BEGIN;
+				jamo.append(CHOSEONG.charAt(index / (21 * 28)))
+					.append(JUNGSEONG[index % (21 * 28) / 28])
+					.append(JONGSEONG[index % 28]);
+			} else {
+				jamo.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+			}
+		}
+		return jamo.toString();
+	}
+
+	/**
+	 * 한글 음절을 초성으로 변환 (예: 서울 -> ㅅㅇ)
+	 */
+	static String toChoseong(String text) {
+		StringBuilder choseong = new StringBuilder(text.length());
+		for (char c : text.toCharArray()) {
+			if (c >= HANGUL_BEGIN && c <= HANGUL_END)
+				choseong.append(CHOSEONG.charAt((c - HANGUL_BEGIN) / (21 * 28)));
+			else
+				choseong.append(c);
+		}
+		return choseong.toString();
+	}
+
+	/**
+	 * 자모 / 초성 트라이와 아이디별 도시 정보 묶음 (쓰기는 TownSuggester 에서 직렬화)
+	 */
+	private static class SuggestIndex {
+
+		private final Map<Long, TownResponse> towns = new ConcurrentHashMap<>();
+
+		private final TownPrefixTrie jamoTrie = new TownPrefixTrie();
+
+		private final TownPrefixTrie choseongTrie = new TownPrefixTrie();
+
+		private void add(TownResponse townResponse) {
+			towns.put(townResponse.getId(), townResponse);
+			for (String key : getKeys(townResponse)) {
+				jamoTrie.add(toJamo(key), townResponse.getId());
+				choseongTrie.add(toChoseong(key), townResponse.getId());
+			}
+		}
+
+		private void remove(Long townId) {
+			TownResponse townResponse = towns.remove(townId);
+			if (townResponse == null)
+				return;
+
+			for (String key : getKeys(townResponse)) {
+				jamoTrie.remove(toJamo(key), townId);
+				choseongTrie.remove(toChoseong(key), townId);
+			}
+		}
+
+		private List<TownResponse> search(
+			String keyword,
+			int size
+		) {
+			Set<Long> townIds = isChoseong(keyword)
+				? choseongTrie.search(keyword, size)
+				: jamoTrie.search(toJamo(keyword), size);
+			return townIds.stream()
+				.map(towns::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.triple.destination_management.domain.town.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여행중인 도시 (개수 제한 없이 맨 앞에 포함, 먼저 등록한 여행 순)
+ * - 여행 구간 색인에서 고르고 도시 정보만 채우므로 여행 테이블을 조회하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelingFeedSource implements FeedSource {
+
+	private final TripIntervalIndex tripIntervalIndex;
+
+	private final TownCatalog townCatalog;
+
+	@Override
+	public String getName() {
+		return "traveling";
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return true;
+	}
+
+	@Override
+	public boolean isCounted() {
+		return false;
+	}
+
+	@Override
+	public List<TownResponse> find(
+		Long userId,
+		Collection<Long> excludeIds,
+		int size
+	) {
+		List<Long> townIds = tripIntervalIndex.findTraveling(userId, LocalDateTime.now()).stream()
+			.sorted(Comparator.comparing(TripInterval::getTripId))
+			.map(TripInterval::getTownId)
+			.distinct()
+			.collect(Collectors.toList());
+		return townCatalog.findTowns(townIds);
+	}
+}
@@ -0,0 +1,11 @@
+package com.triple.destination_management.domain.trip.constants;
+
+import lombok.Getter;
+
+@Getter
+public enum TripOverlapPolicy {
+
+	NONE, // 겹침 검사 안 함
+	FLAG, // 등록은 하되 겹치는 여행 아이디를 응답에 포함
+	REJECT // 겹치는 여행이 있으면 등록 / 수정 거부
+}
@@ -0,0 +1,14 @@
+package com.triple.destination_management.domain.trip.constants;
+
+import java.util.Locale;
+
+public enum TripStatus {
+
+	PAST, // 종료된 여행 (최근 시작일 순)
+	CURRENT, // 여행중
+	UPCOMING; // 여행 예정 (가까운 시작일 순)
+
+	public static TripStatus from(String status) {
+		return TripStatus.valueOf(status.toUpperCase(Locale.ROOT));
+	}
+}
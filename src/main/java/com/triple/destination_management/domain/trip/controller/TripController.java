@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.triple.destination_management.domain.trip.dto.TripBatchRequest;
+import com.triple.destination_management.domain.trip.dto.TripPageRequest;
 import com.triple.destination_management.domain.trip.dto.TripRequest;
 import com.triple.destination_management.domain.trip.dto.TripResponse;
 import com.triple.destination_management.domain.trip.service.TripService;
@@ -40,6 +42,18 @@ public class TripController {
 		return ResponseEntity.ok(ApiDataResponse.of(tripService.registerTrip(tripRequest, userId)));
 	}
 
+	/**
+	 * 여행 일괄 등록하기
+	 */
+	@PostMapping("/batch")
+	@PreAuthorize("hasRole('ROLE_USER')")
+	public ResponseEntity<?> registerTrips(
+		@Valid @RequestBody TripBatchRequest tripBatchRequest,
+		@AuthenticationPrincipal Long userId
+	) {
+		return ResponseEntity.ok(ApiDataResponse.of(tripService.registerTrips(tripBatchRequest.getTrips(), userId)));
+	}
+
 	/**
 	 * 여행 수정하기
 	 */
@@ -76,4 +90,16 @@ public class TripController {
 	) {
 		return ResponseEntity.ok(ApiDataResponse.of(tripService.findTrip(tripId, userId)));
 	}
+
+	/**
+	 * 상태별 여행 목록 조회하기
+	 */
+	@GetMapping
+	@PreAuthorize("hasRole('ROLE_USER')")
+	public ResponseEntity<?> findTrips(
+		@Valid TripPageRequest tripPageRequest,
+		@AuthenticationPrincipal Long userId
+	) {
+		return ResponseEntity.ok(ApiDataResponse.of(tripService.findTrips(userId, tripPageRequest)));
+	}
 }
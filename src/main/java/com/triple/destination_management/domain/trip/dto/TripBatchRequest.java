@@ -0,0 +1,24 @@
+package com.triple.destination_management.domain.trip.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TripBatchRequest {
+
+	@Valid
+	@NotEmpty(message = "여행 목록을 입력해주세요.")
+	@Size(max = 1000, message = "여행은 한 번에 1000개까지 등록할 수 있습니다.")
+	private List<TripRequest> trips;
+}
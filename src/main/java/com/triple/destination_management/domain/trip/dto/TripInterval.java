@@ -0,0 +1,34 @@
+package com.triple.destination_management.domain.trip.dto;
+
+import java.time.LocalDateTime;
+
+import com.triple.destination_management.domain.trip.entity.Trip;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TripInterval {
+
+	private Long tripId;
+
+	private Long townId;
+
+	private LocalDateTime startDate;
+
+	private LocalDateTime endDate;
+
+	public static TripInterval entityToDto(Trip trip) {
+		return TripInterval.builder()
+			.tripId(trip.getId())
+			.townId(trip.getTown().getId())
+			.startDate(trip.getStartDate())
+			.endDate(trip.getEndDate())
+			.build();
+	}
+}
@@ -0,0 +1,73 @@
+package com.triple.destination_management.domain.trip.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import com.triple.destination_management.domain.trip.constants.TripStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TripPageRequest {
+
+	private static final String CURSOR_DELIMITER = "_";
+
+	@NotNull(message = "여행 상태를 입력해주세요.")
+	@Pattern(regexp = "(?i)past|current|upcoming", message = "올바른 여행 상태를 입력해주세요.")
+	private String status;
+
+	// 이전 페이지 마지막 여행의 "시작일_아이디" (첫 페이지는 null)
+	@Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}T[\\d:.]+_\\d+", message = "올바른 커서를 입력해주세요.")
+	private String cursor;
+
+	@Builder.Default
+	@NotNull(message = "조회 개수를 입력해주세요.")
+	@Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+	@Max(value = 100, message = "조회 개수는 100 이하여야 합니다.")
+	private Integer size = 20;
+
+	/**
+	 * 형식은 맞지만 존재하지 않는 날짜(예: 2026-99-99T00:00_1) 나 범위를 넘는 아이디도 잘못된 커서로 처리
+	 */
+	@AssertTrue(message = "올바른 커서를 입력해주세요.")
+	public boolean isValidCursor() {
+		if (cursor == null || !cursor.contains(CURSOR_DELIMITER))
+			return true; // 형식 오류는 @Pattern 에서 처리
+
+		try {
+			getCursorStartDate();
+			getCursorTripId();
+			return true;
+		} catch (DateTimeParseException | NumberFormatException e) {
+			return false;
+		}
+	}
+
+	public TripStatus getTripStatus() {
+		return TripStatus.from(status);
+	}
+
+	public LocalDateTime getCursorStartDate() {
+		return cursor == null ? null : LocalDateTime.parse(cursor.substring(0, cursor.lastIndexOf(CURSOR_DELIMITER)));
+	}
+
+	public Long getCursorTripId() {
+		return cursor == null ? null : Long.valueOf(cursor.substring(cursor.lastIndexOf(CURSOR_DELIMITER) + 1));
+	}
+
+	public static String getCursor(TripResponse tripResponse) {
+		return tripResponse.getStartDate() + CURSOR_DELIMITER + tripResponse.getId();
+	}
+}
@@ -0,0 +1,31 @@
+package com.triple.destination_management.domain.trip.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TripPageResponse {
+
+	private List<TripResponse> trips;
+
+	private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 페이지면 null)
+
+	private boolean hasNext;
+
+	public static TripPageResponse of(
+		List<TripResponse> trips,
+		int size
+	) {
+		boolean hasNext = trips.size() > size;
+		List<TripResponse> page = hasNext ? trips.subList(0, size) : trips;
+		String nextCursor = hasNext ? TripPageRequest.getCursor(page.get(page.size() - 1)) : null;
+		return new TripPageResponse(page, nextCursor, hasNext);
+	}
+}
@@ -1,6 +1,7 @@
 package com.triple.destination_management.domain.trip.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -32,6 +33,8 @@ public class TripResponse {
 
 	private String area;
 
+	private List<Long> overlappedTripIds; // 기간이 겹치는 기존 여행 (trip.overlap-policy: FLAG)
+
 	public static TripResponse entityToDto(Trip trip) {
 		return TripResponse.builder()
 			.id(trip.getId())
@@ -8,8 +8,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import org.hibernate.annotations.DynamicInsert;
@@ -35,11 +37,16 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = true)
 @DynamicUpdate
 @DynamicInsert
-@Table(name = "t_trip")
+@Table(name = "t_trip", indexes = {
+	@Index(name = "idx_trip_user_end_date", columnList = "user_id, trip_end_date, trip_start_date, town_id"),
+	@Index(name = "idx_trip_user_start_date", columnList = "user_id, trip_start_date, town_id"),
+	@Index(name = "idx_trip_user_town", columnList = "user_id, town_id, trip_start_date, trip_end_date")
+})
 public class Trip extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trip_seq_generator")
+	@SequenceGenerator(name = "trip_seq_generator", sequenceName = "t_trip_seq", allocationSize = 50)
 	@Column(name = "trip_id")
 	private Long id;
 
@@ -0,0 +1,36 @@
+package com.triple.destination_management.domain.trip.event;
+
+import java.util.List;
+
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TripChangedEvent {
+
+	private final Long userId; // 여행이 등록 / 수정 / 삭제된 사용자
+
+	private final List<TripInterval> savedIntervals; // 등록 / 수정된 여행 구간
+
+	private final List<Long> removedTripIds; // 삭제된 여행
+
+	public static TripChangedEvent saved(
+		Long userId,
+		List<TripInterval> savedIntervals
+	) {
+		return new TripChangedEvent(userId, List.copyOf(savedIntervals), List.of());
+	}
+
+	public static TripChangedEvent removed(
+		Long userId,
+		Long tripId
+	) {
+		return new TripChangedEvent(userId, List.of(), List.of(tripId));
+	}
+}
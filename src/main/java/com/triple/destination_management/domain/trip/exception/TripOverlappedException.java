@@ -0,0 +1,11 @@
+package com.triple.destination_management.domain.trip.exception;
+
+import com.triple.destination_management.global.constants.ResponseCode;
+import com.triple.destination_management.global.exception.GeneralException;
+
+public class TripOverlappedException extends GeneralException {
+
+	public TripOverlappedException() {
+		super(ResponseCode.OVERLAPPED_REQUEST);
+	}
+}
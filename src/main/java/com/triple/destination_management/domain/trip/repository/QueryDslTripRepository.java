@@ -0,0 +1,38 @@
+package com.triple.destination_management.domain.trip.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.dto.TripPageRequest;
+import com.triple.destination_management.domain.trip.dto.TripResponse;
+
+public interface QueryDslTripRepository {
+
+	List<TripInterval> findTripIntervals(Long userId);
+
+	List<TripInterval> findOverlappingTripIntervals(
+		Long userId,
+		LocalDateTime from,
+		LocalDateTime to
+	);
+
+	boolean existsOverlappingTrip(
+		Long userId,
+		LocalDateTime from,
+		LocalDateTime to,
+		Long excludeTripId
+	);
+
+	List<TripResponse> findTripsByStatus(
+		Long userId,
+		TripPageRequest tripPageRequest,
+		LocalDateTime now
+	);
+
+	Optional<TripResponse> findTripResponse(
+		Long tripId,
+		Long userId
+	);
+}
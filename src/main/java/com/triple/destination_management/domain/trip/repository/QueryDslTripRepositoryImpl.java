@@ -0,0 +1,180 @@
+package com.triple.destination_management.domain.trip.repository;
+
+import static com.triple.destination_management.domain.town.entity.QTown.*;
+import static com.triple.destination_management.domain.trip.entity.QTrip.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triple.destination_management.domain.trip.constants.TripStatus;
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.dto.TripPageRequest;
+import com.triple.destination_management.domain.trip.dto.TripResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QueryDslTripRepositoryImpl implements QueryDslTripRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 사용자의 전체 여행 구간 조회 (여행 구간 색인 적재용)
+	 */
+	@Override
+	public List<TripInterval> findTripIntervals(Long userId) {
+		return queryFactory
+			.select(
+				Projections.fields(TripInterval.class, trip.id.as("tripId"), trip.town.id.as("townId"),
+					trip.startDate, trip.endDate))
+			.from(trip)
+			.where(eqUserId(userId))
+			.fetch();
+	}
+
+	/**
+	 * [from, to] 와 겹치는 여행 구간 조회 (idx_trip_user_end_date, 일괄 등록 전 겹침 검사용)
+	 */
+	@Override
+	public List<TripInterval> findOverlappingTripIntervals(
+		Long userId,
+		LocalDateTime from,
+		LocalDateTime to
+	) {
+		return queryFactory
+			.select(
+				Projections.fields(TripInterval.class, trip.id.as("tripId"), trip.town.id.as("townId"),
+					trip.startDate, trip.endDate))
+			.from(trip)
+			.where(eqUserId(userId), overlaps(from, to))
+			.fetch();
+	}
+
+	/**
+	 * [from, to] 와 겹치는 여행이 하나라도 있는지 (idx_trip_user_end_date, LIMIT 1)
+	 * - excludeTripId: 수정 중인 여행 자신은 제외
+	 */
+	@Override
+	public boolean existsOverlappingTrip(
+		Long userId,
+		LocalDateTime from,
+		LocalDateTime to,
+		Long excludeTripId
+	) {
+		Integer exists = queryFactory
+			.selectOne()
+			.from(trip)
+			.where(eqUserId(userId), overlaps(from, to), neTripId(excludeTripId))
+			.fetchFirst();
+		return exists != null;
+	}
+
+	/**
+	 * 상태별 여행 목록 조회 (도시 조인 프로젝션, 시작일/아이디 키셋 페이징)
+	 */
+	@Override
+	public List<TripResponse> findTripsByStatus(
+		Long userId,
+		TripPageRequest tripPageRequest,
+		LocalDateTime now
+	) {
+		TripStatus tripStatus = tripPageRequest.getTripStatus();
+		boolean desc = tripStatus == TripStatus.PAST;
+		return queryFactory
+			.select(getTripFields())
+			.from(trip)
+			.join(trip.town, town)
+			.where(
+				eqUserId(userId),
+				eqStatus(tripStatus, now),
+				afterCursor(tripPageRequest.getCursorStartDate(), tripPageRequest.getCursorTripId(), desc)
+			)
+			.orderBy(getTripOrders(desc))
+			.limit(tripPageRequest.getSize() + 1)
+			.fetch();
+	}
+
+	/**
+	 * 사용자 소유 단일 여행 조회 (도시 조인 프로젝션)
+	 */
+	@Override
+	public Optional<TripResponse> findTripResponse(
+		Long tripId,
+		Long userId
+	) {
+		return Optional.ofNullable(
+			queryFactory
+				.select(getTripFields())
+				.from(trip)
+				.join(trip.town, town)
+				.where(
+					trip.id.eq(tripId),
+					eqUserId(userId)
+				)
+				.fetchOne()
+		);
+	}
+
+	private QBean<TripResponse> getTripFields() {
+		return Projections.fields(TripResponse.class, trip.id, trip.startDate, trip.endDate, town.name,
+			town.country, town.area);
+	}
+
+	private BooleanExpression eqStatus(
+		TripStatus tripStatus,
+		LocalDateTime now
+	) {
+		switch (tripStatus) {
+			case PAST:
+				return trip.endDate.before(now);
+			case CURRENT:
+				return trip.startDate.before(now).and(trip.endDate.after(now));
+			default:
+				return trip.startDate.after(now);
+		}
+	}
+
+	private BooleanExpression afterCursor(
+		LocalDateTime startDate,
+		Long tripId,
+		boolean desc
+	) {
+		if (startDate == null || tripId == null)
+			return null;
+		if (desc)
+			return trip.startDate.lt(startDate).or(trip.startDate.eq(startDate).and(trip.id.lt(tripId)));
+		return trip.startDate.gt(startDate).or(trip.startDate.eq(startDate).and(trip.id.gt(tripId)));
+	}
+
+	private OrderSpecifier<?>[] getTripOrders(boolean desc) {
+		if (desc)
+			return new OrderSpecifier<?>[] {trip.startDate.desc(), trip.id.desc()};
+		return new OrderSpecifier<?>[] {trip.startDate.asc(), trip.id.asc()};
+	}
+
+	private BooleanExpression eqUserId(Long userId) {
+		return trip.user.id.eq(userId);
+	}
+
+	private BooleanExpression overlaps(
+		LocalDateTime from,
+		LocalDateTime to
+	) {
+		return trip.endDate.goe(from).and(trip.startDate.loe(to));
+	}
+
+	private BooleanExpression neTripId(Long tripId) {
+		return tripId != null ? trip.id.ne(tripId) : null;
+	}
+}
@@ -3,17 +3,26 @@ package com.triple.destination_management.domain.trip.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.trip.entity.Trip;
-import com.triple.destination_management.domain.user.entity.User;
 
-public interface TripRepository extends JpaRepository<Trip, Long> {
+public interface TripRepository extends JpaRepository<Trip, Long>, QueryDslTripRepository {
 
 	Optional<Trip> findFirstByTown(Town town);
 
-	Optional<Trip> findTripByUserAndId(
-		User user,
-		Long tripId
+	Optional<Trip> findTripByIdAndUserId(
+		Long tripId,
+		Long userId
+	);
+
+	@Modifying
+	@Query("delete from Trip t where t.id = :tripId and t.user.id = :userId")
+	int deleteTripByIdAndUserId(
+		@Param("tripId") Long tripId,
+		@Param("userId") Long userId
 	);
 }
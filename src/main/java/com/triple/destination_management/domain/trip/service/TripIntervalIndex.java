@@ -0,0 +1,177 @@
+package com.triple.destination_management.domain.trip.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.event.TripChangedEvent;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자별 여행 구간 색인
+ * - 처음 조회 시 사용자의 여행 구간만 한 번 읽어 트리로 만들고, 이후 조회는 DB 를 거치지 않음
+ * - 여행이 등록 / 수정 / 삭제되면 커밋 이후 바뀐 구간만 해당 사용자의 트리에 반영 (DB 를 다시 읽지 않음)
+ * - 다른 인스턴스에서 바뀐 여행은 trip.index.ttl 이 지나 다시 만들 때 반영
+ */
+@Component
+public class TripIntervalIndex {
+
+	private static final int MAX_SIZE = 100_000;
+
+	private static final int EVICT_SIZE = MAX_SIZE / 10; // 가득 차면 한 번에 비울 사용자 수
+
+	private static final int VERSION_STRIPES = 4096; // 사용자별 무효화 시점을 나눠 담을 칸 수
+
+	private final TripRepository tripRepository;
+
+	private final long ttlMillis;
+
+	private final Map<Long, CachedTree> trees = new ConcurrentHashMap<>();
+
+	private final AtomicLong version = new AtomicLong();
+
+	private final AtomicLongArray evictedVersions = new AtomicLongArray(VERSION_STRIPES);
+
+	public TripIntervalIndex(
+		TripRepository tripRepository,
+		@Value("${trip.index.ttl:600000}") long ttlMillis
+	) {
+		this.tripRepository = tripRepository;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * 현재 여행중인 여행 (시작일 순)
+	 */
+	public List<TripInterval> findTraveling(
+		Long userId,
+		LocalDateTime now
+	) {
+		return getTree(userId).findTraveling(now);
+	}
+
+	/**
+	 * 여행 예정인 여행 (시작일 순)
+	 */
+	public List<TripInterval> findScheduled(
+		Long userId,
+		LocalDateTime now
+	) {
+		return getTree(userId).findScheduled(now);
+	}
+
+	/**
+	 * [from, to] 와 겹치는 여행 (시작일 순)
+	 */
+	public List<TripInterval> findOverlapping(
+		Long userId,
+		LocalDateTime from,
+		LocalDateTime to
+	) {
+		return getTree(userId).findOverlapping(from, to);
+	}
+
+	/**
+	 * 여행 예정 -> 여행중, 여행중 -> 종료로 바뀌는 가장 가까운 시점
+	 */
+	public Optional<LocalDateTime> findNextBoundary(
+		Long userId,
+		LocalDateTime now
+	) {
+		return getTree(userId).findNextBoundary(now);
+	}
+
+	TripIntervalTree getTree(Long userId) {
+		CachedTree cachedTree = trees.get(userId);
+		if (cachedTree != null && !cachedTree.isExpired(System.currentTimeMillis()))
+			return cachedTree.getTree();
+		return load(userId);
+	}
+
+	/**
+	 * 읽는 도중 해당 사용자의 무효화가 발생했다면 이번 결과는 색인에 남기지 않음
+	 */
+	private TripIntervalTree load(Long userId) {
+		long loadedVersion = version.get();
+		TripIntervalTree tree = new TripIntervalTree(tripRepository.findTripIntervals(userId));
+		if (isEvictedAfter(userId, loadedVersion))
+			return tree;
+
+		long now = System.currentTimeMillis();
+		trim(now);
+		CachedTree cachedTree = new CachedTree(tree, now + ttlMillis);
+		trees.put(userId, cachedTree);
+		if (isEvictedAfter(userId, loadedVersion))
+			trees.remove(userId, cachedTree);
+		return tree;
+	}
+
+	private boolean isEvictedAfter(
+		Long userId,
+		long loadedVersion
+	) {
+		return evictedVersions.get(getStripe(userId)) > loadedVersion;
+	}
+
+	private static int getStripe(Long userId) {
+		return Math.floorMod(userId.hashCode(), VERSION_STRIPES);
+	}
+
+	/**
+	 * 가득 차면 만료된 트리를 비우고, 그래도 모자라면 EVICT_SIZE 만큼 한 번에 비움
+	 */
+	private void trim(long now) {
+		if (trees.size() < MAX_SIZE)
+			return;
+
+		synchronized (this) {
+			if (trees.size() < MAX_SIZE)
+				return;
+
+			trees.values().removeIf(cachedTree -> cachedTree.isExpired(now));
+			Iterator<Long> userIds = trees.keySet().iterator();
+			while (trees.size() > MAX_SIZE - EVICT_SIZE && userIds.hasNext()) {
+				userIds.next();
+				userIds.remove();
+			}
+		}
+	}
+
+	/**
+	 * 읽는 중인 트리는 바뀌기 전 구간일 수 있어 버리고, 이미 만든 트리에는 바뀐 구간만 반영 (만료 시각은 유지)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void apply(TripChangedEvent event) {
+		long evictedVersion = version.incrementAndGet();
+		evictedVersions.accumulateAndGet(getStripe(event.getUserId()), evictedVersion, Math::max);
+		trees.computeIfPresent(event.getUserId(), (userId, cachedTree) -> new CachedTree(
+			cachedTree.getTree().apply(event.getSavedIntervals(), event.getRemovedTripIds()),
+			cachedTree.getExpireAt()));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class CachedTree {
+
+		private final TripIntervalTree tree;
+
+		private final long expireAt;
+
+		private boolean isExpired(long now) {
+			return now >= expireAt;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.triple.destination_management.domain.trip.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+
+/**
+ * 한 사용자의 여행 구간 트리 (불변)
+ * - 시작일 순으로 정렬한 배열을 암묵적 이진 트리로 보고, 노드마다 하위 트리의 최대 종료일을 둔다.
+ * - 겹치는 구간 조회는 O(log n + k), 다음 여행 조회는 이진 탐색으로 O(log n)
+ */
+class TripIntervalTree {
+
+	private final TripInterval[] intervals;
+
+	private final LocalDateTime[] maxEndDates;
+
+	TripIntervalTree(List<TripInterval> tripIntervals) {
+		this.intervals = tripIntervals.stream()
+			.filter(interval -> interval.getStartDate() != null && interval.getEndDate() != null)
+			.sorted(Comparator.comparing(TripInterval::getStartDate).thenComparing(TripInterval::getTripId))
+			.toArray(TripInterval[]::new);
+		this.maxEndDates = new LocalDateTime[intervals.length];
+		build(0, intervals.length - 1);
+	}
+
+	int size() {
+		return intervals.length;
+	}
+
+	/**
+	 * 바뀐 여행만 반영한 새 트리 (DB 를 거치지 않고 O(n log n))
+	 * - savedIntervals: 등록 / 수정된 여행 (같은 여행의 기존 구간을 대체)
+	 * - removedTripIds: 삭제된 여행
+	 */
+	TripIntervalTree apply(
+		List<TripInterval> savedIntervals,
+		Collection<Long> removedTripIds
+	) {
+		Set<Long> changedTripIds = Stream.concat(
+				savedIntervals.stream().map(TripInterval::getTripId), removedTripIds.stream())
+			.collect(Collectors.toSet());
+		List<TripInterval> tripIntervals = Stream.concat(
+				Arrays.stream(intervals).filter(interval -> !changedTripIds.contains(interval.getTripId())),
+				savedIntervals.stream())
+			.collect(Collectors.toList());
+		return new TripIntervalTree(tripIntervals);
+	}
+
+	private LocalDateTime build(
+		int low,
+		int high
+	) {
+		if (low > high)
+			return null;
+
+		int mid = (low + high) >>> 1;
+		LocalDateTime maxEndDate = intervals[mid].getEndDate();
+		LocalDateTime left = build(low, mid - 1);
+		LocalDateTime right = build(mid + 1, high);
+		if (left != null && left.isAfter(maxEndDate))
+			maxEndDate = left;
+		if (right != null && right.isAfter(maxEndDate))
+			maxEndDate = right;
+		maxEndDates[mid] = maxEndDate;
+		return maxEndDate;
+	}
+
+	/**
+	 * [from, to] 와 겹치는 여행을 시작일 순으로 조회 (시작일 <= to 이고 종료일 >= from)
+	 */
+	List<TripInterval> findOverlapping(
+		LocalDateTime from,
+		LocalDateTime to
+	) {
+		List<TripInterval> overlapping = new ArrayList<>();
+		collect(0, intervals.length - 1, from, to, overlapping);
+		return overlapping;
+	}
+
+	private void collect(
+		int low,
+		int high,
+		LocalDateTime from,
+		LocalDateTime to,
+		List<TripInterval> overlapping
+	) {
+		if (low > high)
+			return;
+
+		int mid = (low + high) >>> 1;
+		if (maxEndDates[mid].isBefore(from)) // 하위 트리 전체가 from 이전에 끝남
+			return;
+
+		collect(low, mid - 1, from, to, overlapping);
+		if (intervals[mid].getStartDate().isAfter(to)) // 오른쪽은 모두 to 이후에 시작
+			return;
+
+		if (!intervals[mid].getEndDate().isBefore(from))
+			overlapping.add(intervals[mid]);
+		collect(mid + 1, high, from, to, overlapping);
+	}
+
+	/**
+	 * 현재 여행중인 여행 (시작일 < now < 종료일)
+	 */
+	List<TripInterval> findTraveling(LocalDateTime now) {
+		List<TripInterval> traveling = findOverlapping(now, now);
+		traveling.removeIf(interval -> !interval.getStartDate().isBefore(now) || !interval.getEndDate().isAfter(now));
+		return traveling;
+	}
+
+	/**
+	 * now 이후 시작하는 여행 (시작일 순)
+	 */
+	List<TripInterval> findScheduled(LocalDateTime now) {
+		return new ArrayList<>(Arrays.asList(intervals).subList(findScheduledIndex(now), intervals.length));
+	}
+
+	/**
+	 * now 이후 가장 먼저 시작하는 여행
+	 */
+	Optional<TripInterval> findNextScheduled(LocalDateTime now) {
+		int index = findScheduledIndex(now);
+		return index < intervals.length ? Optional.of(intervals[index]) : Optional.empty();
+	}
+
+	/**
+	 * 시작일이 now 이후인 첫 번째 여행의 위치 (이진 탐색)
+	 */
+	private int findScheduledIndex(LocalDateTime now) {
+		int low = 0;
+		int high = intervals.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (intervals[mid].getStartDate().isAfter(now))
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return low;
+	}
+
+	/**
+	 * 여행 예정 -> 여행중, 여행중 -> 종료로 바뀌는 가장 가까운 시점
+	 */
+	Optional<LocalDateTime> findNextBoundary(LocalDateTime now) {
+		LocalDateTime boundary = findNextScheduled(now).map(TripInterval::getStartDate).orElse(null);
+		for (TripInterval interval : findOverlapping(now, now)) {
+			LocalDateTime endDate = interval.getEndDate();
+			if (endDate.isAfter(now) && (boundary == null || endDate.isBefore(boundary)))
+				boundary = endDate;
+		}
+		return Optional.ofNullable(boundary);
+	}
+}
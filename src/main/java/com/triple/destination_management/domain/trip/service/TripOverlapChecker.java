@@ -0,0 +1,142 @@
+package com.triple.destination_management.domain.trip.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.trip.constants.TripOverlapPolicy;
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.dto.TripRequest;
+import com.triple.destination_management.domain.trip.exception.TripOverlappedException;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+
+/**
+ * 여행 기간 겹침 검사 (trip.overlap-policy)
+ * - FLAG: 겹치는 여행 아이디만 알려주므로 캐시된 여행 구간 트리로 확인 (DB 를 거치지 않음)
+ * - REJECT: 다른 인스턴스에서 등록된 여행도 거부하도록 idx_trip_user_end_date 로 겹치는 여행만 조회
+ * - 커밋된 여행 기준이라 동시에 들어온 요청끼리의 겹침은 잡지 못할 수 있음
+ */
+@Component
+public class TripOverlapChecker {
+
+	private final TripIntervalIndex tripIntervalIndex;
+
+	private final TripRepository tripRepository;
+
+	private final TripOverlapPolicy overlapPolicy;
+
+	public TripOverlapChecker(
+		TripIntervalIndex tripIntervalIndex,
+		TripRepository tripRepository,
+		@Value("${trip.overlap-policy:NONE}") TripOverlapPolicy overlapPolicy
+	) {
+		this.tripIntervalIndex = tripIntervalIndex;
+		this.tripRepository = tripRepository;
+		this.overlapPolicy = overlapPolicy;
+	}
+
+	/**
+	 * 겹치는 기존 여행 아이디 반환 (검사하지 않으면 null)
+	 * - excludeTripId: 수정 중인 여행 자신은 제외
+	 */
+	public List<Long> check(
+		Long userId,
+		TripRequest tripRequest,
+		Long excludeTripId
+	) {
+		if (overlapPolicy == TripOverlapPolicy.NONE)
+			return null;
+
+		if (overlapPolicy == TripOverlapPolicy.REJECT) {
+			if (tripRepository.existsOverlappingTrip(
+				userId, tripRequest.getStartDate(), tripRequest.getEndDate(), excludeTripId))
+				throw new TripOverlappedException();
+			return new ArrayList<>();
+		}
+		return getOverlappedTripIds(tripIntervalIndex.getTree(userId), tripRequest, excludeTripId);
+	}
+
+	/**
+	 * 일괄 등록 요청마다 겹치는 기존 여행 아이디 반환 (검사하지 않으면 null)
+	 * - 기존 여행 구간은 요청 전체에 대해 한 번만 읽음 (REJECT 는 요청 기간 전체와 겹치는 여행만 조회)
+	 */
+	public List<List<Long>> checkAll(
+		Long userId,
+		List<TripRequest> tripRequests
+	) {
+		if (overlapPolicy == TripOverlapPolicy.NONE)
+			return Collections.nCopies(tripRequests.size(), null);
+
+		checkEachOther(tripRequests);
+		TripIntervalTree tree = overlapPolicy == TripOverlapPolicy.REJECT
+			? new TripIntervalTree(findOverlappingTripIntervals(userId, tripRequests))
+			: tripIntervalIndex.getTree(userId);
+
+		List<List<Long>> overlappedTripIds = new ArrayList<>(tripRequests.size());
+		for (TripRequest tripRequest : tripRequests) {
+			overlappedTripIds.add(resolve(getOverlappedTripIds(tree, tripRequest, null)));
+		}
+		return overlappedTripIds;
+	}
+
+	/**
+	 * 일괄 등록 요청끼리 겹치는지 확인 (REJECT 일 때만)
+	 */
+	public void checkEachOther(List<TripRequest> tripRequests) {
+		if (overlapPolicy == TripOverlapPolicy.REJECT && hasOverlap(tripRequests))
+			throw new TripOverlappedException();
+	}
+
+	private List<TripInterval> findOverlappingTripIntervals(
+		Long userId,
+		List<TripRequest> tripRequests
+	) {
+		LocalDateTime from = tripRequests.stream().map(TripRequest::getStartDate)
+			.min(Comparator.naturalOrder()).orElse(null);
+		LocalDateTime to = tripRequests.stream().map(TripRequest::getEndDate)
+			.max(Comparator.naturalOrder()).orElse(null);
+		if (from == null || to == null)
+			return List.of();
+		return tripRepository.findOverlappingTripIntervals(userId, from, to);
+	}
+
+	private List<Long> getOverlappedTripIds(
+		TripIntervalTree tree,
+		TripRequest tripRequest,
+		Long excludeTripId
+	) {
+		return tree.findOverlapping(tripRequest.getStartDate(), tripRequest.getEndDate()).stream()
+			.map(TripInterval::getTripId)
+			.filter(tripId -> !tripId.equals(excludeTripId))
+			.collect(Collectors.toList());
+	}
+
+	private List<Long> resolve(List<Long> overlappedTripIds) {
+		if (overlapPolicy == TripOverlapPolicy.REJECT && !overlappedTripIds.isEmpty())
+			throw new TripOverlappedException();
+		return overlappedTripIds;
+	}
+
+	private boolean hasOverlap(List<TripRequest> tripRequests) {
+		List<TripRequest> sorted = tripRequests.stream()
+			.filter(tripRequest -> Objects.nonNull(tripRequest.getStartDate()))
+			.sorted(Comparator.comparing(TripRequest::getStartDate))
+			.collect(Collectors.toList());
+
+		LocalDateTime maxEndDate = null;
+		for (TripRequest tripRequest : sorted) {
+			if (maxEndDate != null && !tripRequest.getStartDate().isAfter(maxEndDate))
+				return true;
+			if (maxEndDate == null || tripRequest.getEndDate().isAfter(maxEndDate))
+				maxEndDate = tripRequest.getEndDate();
+		}
+		return false;
+	}
+}
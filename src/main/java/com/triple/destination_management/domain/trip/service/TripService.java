@@ -1,14 +1,30 @@
 package com.triple.destination_management.domain.trip.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
 import com.triple.destination_management.domain.town.exception.TownNotFoundException;
 import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.town.service.TownCatalog;
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.dto.TripPageRequest;
+import com.triple.destination_management.domain.trip.dto.TripPageResponse;
 import com.triple.destination_management.domain.trip.dto.TripRequest;
 import com.triple.destination_management.domain.trip.dto.TripResponse;
 import com.triple.destination_management.domain.trip.entity.Trip;
+import com.triple.destination_management.domain.trip.event.TripChangedEvent;
 import com.triple.destination_management.domain.trip.exception.TripDateException;
 import com.triple.destination_management.domain.trip.exception.TripNotFoundException;
 import com.triple.destination_management.domain.trip.exception.TripRemoveAuthException;
@@ -16,6 +32,8 @@ import com.triple.destination_management.domain.trip.repository.TripRepository;
 import com.triple.destination_management.domain.user.entity.User;
 import com.triple.destination_management.domain.user.exception.UserNotFoundException;
 import com.triple.destination_management.domain.user.repository.UserRepository;
+import com.triple.destination_management.global.exception.ConstraintViolations;
+import com.triple.destination_management.global.exception.GeneralException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,12 +42,22 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class TripService {
 
+	private static final String USER_FOREIGN_KEY = "fk_trip_user";
+
+	private static final String TOWN_FOREIGN_KEY = "fk_trip_town";
+
 	private final TownRepository townRepository;
 
+	private final TownCatalog townCatalog;
+
 	private final TripRepository tripRepository;
 
 	private final UserRepository userRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TripOverlapChecker tripOverlapChecker;
+
 	/**
 	 * 여행 등록하기
 	 */
@@ -41,7 +69,8 @@ public class TripService {
 		if (isStartDateAfterEndDate(tripRequest))
 			throw new TripDateException();
 
-		User user = getUserById(userId);
+		List<Long> overlappedTripIds = tripOverlapChecker.check(userId, tripRequest, null);
+		User user = getUserReference(userId);
 		Town town = getTownById(tripRequest.getTownId());
 
 		Trip trip = TripRequest.dtoToEntity(tripRequest);
@@ -49,7 +78,53 @@ public class TripService {
 		trip.setUser(user);
 
 		Trip savedTrip = tripRepository.save(trip);
-		return TripResponse.entityToDto(savedTrip);
+		flushWithReferences();
+		eventPublisher.publishEvent(TripChangedEvent.saved(userId, List.of(TripInterval.entityToDto(savedTrip))));
+		eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId));
+
+		TripResponse tripResponse = TripResponse.entityToDto(savedTrip);
+		tripResponse.setOverlappedTripIds(overlappedTripIds);
+		return tripResponse;
+	}
+
+	/**
+	 * 여행 일괄 등록하기
+	 */
+	@Transactional
+	public List<TripResponse> registerTrips(
+		List<TripRequest> tripRequests,
+		Long userId
+	) {
+		if (tripRequests.stream().anyMatch(this::isStartDateAfterEndDate))
+			throw new TripDateException();
+
+		List<List<Long>> overlappedTripIds = tripOverlapChecker.checkAll(userId, tripRequests);
+
+		User user = getUserReference(userId);
+		Map<Long, Town> towns = getTownsByIds(
+			tripRequests.stream().map(TripRequest::getTownId).collect(Collectors.toSet()));
+
+		List<Trip> trips = tripRequests.stream()
+			.map(tripRequest -> {
+				Trip trip = TripRequest.dtoToEntity(tripRequest);
+				trip.setTown(towns.get(tripRequest.getTownId()));
+				trip.setUser(user);
+				return trip;
+			})
+			.collect(Collectors.toList());
+
+		List<Trip> savedTrips = tripRepository.saveAll(trips);
+		flushWithReferences();
+		eventPublisher.publishEvent(TripChangedEvent.saved(userId,
+			savedTrips.stream().map(TripInterval::entityToDto).collect(Collectors.toList())));
+		eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId));
+		List<TripResponse> tripResponses = new ArrayList<>(savedTrips.size());
+		for (int i = 0; i < savedTrips.size(); i++) {
+			TripResponse tripResponse = TripResponse.entityToDto(savedTrips.get(i));
+			tripResponse.setOverlappedTripIds(overlappedTripIds.get(i));
+			tripResponses.add(tripResponse);
+		}
+		return tripResponses;
 	}
 
 	/**
@@ -64,22 +139,22 @@ public class TripService {
 		if (isStartDateAfterEndDate(tripRequest))
 			throw new TripDateException();
 
-		User user = getUserById(userId);
-		Trip trip = getTripById(tripId);
-
-		if (isNotSameUser(trip, user))
-			throw new TripRemoveAuthException();
+		Trip trip = tripRepository.findTripByIdAndUserId(tripId, userId)
+			.orElseThrow(() -> getTripAccessException(tripId, userId));
 
+		List<Long> overlappedTripIds = tripOverlapChecker.check(userId, tripRequest, tripId);
 		trip.setStartDate(tripRequest.getStartDate());
 		trip.setEndDate(tripRequest.getEndDate());
 
 		Town town = getTownById(tripRequest.getTownId());
 		trip.setTown(town);
-		return TripResponse.entityToDto(trip);
-	}
+		flushWithReferences();
+		eventPublisher.publishEvent(TripChangedEvent.saved(userId, List.of(TripInterval.entityToDto(trip))));
+		eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId));
 
-	private Trip getTripById(Long tripId) {
-		return tripRepository.findById(tripId).orElseThrow(TripNotFoundException::new);
+		TripResponse tripResponse = TripResponse.entityToDto(trip);
+		tripResponse.setOverlappedTripIds(overlappedTripIds);
+		return tripResponse;
 	}
 
 	/**
@@ -90,25 +165,46 @@ public class TripService {
 		Long tripId,
 		Long userId
 	) {
-		Trip trip = getTripById(tripId);
-		User user = getUserById(userId);
-
-		if (isNotSameUser(trip, user))
-			throw new TripRemoveAuthException();
+		if (tripRepository.deleteTripByIdAndUserId(tripId, userId) == 0)
+			throw getTripAccessException(tripId, userId);
 
-		tripRepository.delete(trip);
-		return trip.getId();
+		eventPublisher.publishEvent(TripChangedEvent.removed(userId, tripId));
+		eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId));
+		return tripId;
 	}
 
-	private boolean isNotSameUser(
-		Trip trip,
-		User user
+	/**
+	 * 사용자 소유 조건으로 여행을 찾지 못한 경우에만 원인을 구분한다
+	 */
+	private GeneralException getTripAccessException(
+		Long tripId,
+		Long userId
 	) {
-		return !trip.getUser().getId().equals(user.getId());
+		if (!tripRepository.existsById(tripId))
+			return new TripNotFoundException();
+		if (!userRepository.existsById(userId))
+			return new UserNotFoundException();
+		return new TripRemoveAuthException();
 	}
 
-	private User getUserById(Long userId) {
-		return userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+	private User getUserReference(Long userId) {
+		return userRepository.getById(userId);
+	}
+
+	/**
+	 * 사용자는 프록시로, 도시는 catalog 값으로만 연결하므로 존재하지 않는 사용자 / 도시는 외래키 위반으로 확인한다
+	 * - 위반한 제약 조건 이름으로 원인을 구분하고, 그 외의 위반은 그대로 던진다
+	 */
+	private void flushWithReferences() {
+		try {
+			tripRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			if (ConstraintViolations.isViolated(e, USER_FOREIGN_KEY))
+				throw new UserNotFoundException();
+			if (ConstraintViolations.isViolated(e, TOWN_FOREIGN_KEY))
+				throw new TownNotFoundException();
+			throw e;
+		}
 	}
 
 	/**
@@ -118,16 +214,39 @@ public class TripService {
 		Long tripId,
 		Long userId
 	) {
-		User user = getUserById(userId);
-		Trip trip = tripRepository.findTripByUserAndId(user, tripId).orElseThrow(TownNotFoundException::new);
-		return TripResponse.entityToDto(trip);
+		return tripRepository.findTripResponse(tripId, userId).orElseThrow(TripNotFoundException::new);
+	}
+
+	/**
+	 * 상태별 여행 목록 조회하기
+	 */
+	public TripPageResponse findTrips(
+		Long userId,
+		TripPageRequest tripPageRequest
+	) {
+		List<TripResponse> tripResponses =
+			tripRepository.findTripsByStatus(userId, tripPageRequest, LocalDateTime.now());
+		return TripPageResponse.of(tripResponses, tripPageRequest.getSize());
 	}
 
 	private boolean isStartDateAfterEndDate(TripRequest tripRequest) {
 		return tripRequest.getStartDate().isAfter(tripRequest.getEndDate());
 	}
 
+	/**
+	 * TownCatalog 을 쓰면 도시를 조회하지 않고 catalog 의 값으로 외래키만 연결
+	 */
 	private Town getTownById(Long townId) {
+		if (townCatalog.isEnabled())
+			return townCatalog.findTownReference(townId).orElseThrow(TownNotFoundException::new);
 		return townRepository.findById(townId).orElseThrow(TownNotFoundException::new);
 	}
+
+	private Map<Long, Town> getTownsByIds(Set<Long> townIds) {
+		Map<Long, Town> towns = townRepository.findAllById(townIds).stream()
+			.collect(Collectors.toMap(Town::getId, Function.identity()));
+		if (towns.size() != townIds.size())
+			throw new TownNotFoundException();
+		return towns;
+	}
 }
@@ -0,0 +1,29 @@
+package com.triple.destination_management.domain.user.constants;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SearchTrendWindow {
+
+	ONE_HOUR("1h", Duration.ofHours(1), 60), // 1분 단위로 밀려남
+	ONE_DAY("24h", Duration.ofDays(1), 48), // 30분 단위로 밀려남
+	SEVEN_DAYS("7d", Duration.ofDays(7), 84); // 2시간 단위로 밀려남
+
+	private final String value;
+
+	private final Duration duration;
+
+	private final int slotCount;
+
+	public static SearchTrendWindow from(String value) {
+		return Arrays.stream(values())
+			.filter(window -> window.getValue().equals(value))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("Unknown search trend window: " + value));
+	}
+}
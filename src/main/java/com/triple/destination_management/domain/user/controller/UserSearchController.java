@@ -1,5 +1,7 @@
 package com.triple.destination_management.domain.user.controller;
 
+import javax.validation.Valid;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -9,6 +11,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.triple.destination_management.domain.user.dto.SearchTrendRequest;
+import com.triple.destination_management.domain.user.dto.UserSearchPageRequest;
 import com.triple.destination_management.domain.user.service.UserSearchService;
 import com.triple.destination_management.global.dto.ApiDataResponse;
 
@@ -38,7 +42,20 @@ public class UserSearchController {
 	 */
 	@GetMapping
 	@PreAuthorize("hasRole('ROLE_USER')")
-	public ResponseEntity<?> findSearch(@AuthenticationPrincipal Long userId) {
-		return ResponseEntity.ok(ApiDataResponse.of(userSearchService.findSearch(userId)));
+	public ResponseEntity<?> findSearch(
+		@Valid UserSearchPageRequest userSearchPageRequest,
+		@AuthenticationPrincipal Long userId
+	) {
+		return ResponseEntity.ok(
+			ApiDataResponse.of(userSearchService.findSearch(userId, userSearchPageRequest.getLimit())));
+	}
+
+	/**
+	 * 인기 검색도시 조회하기 (window: 1h, 24h, 7d)
+	 */
+	@GetMapping("/trending")
+	public ResponseEntity<?> findTrendingTowns(@Valid SearchTrendRequest searchTrendRequest) {
+		return ResponseEntity.ok(ApiDataResponse.of(userSearchService.findTrendingTowns(
+			searchTrendRequest.getTrendWindow(), searchTrendRequest.getSize())));
 	}
 }
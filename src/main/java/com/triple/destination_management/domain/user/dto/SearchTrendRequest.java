@@ -0,0 +1,35 @@
+package com.triple.destination_management.domain.user.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import com.triple.destination_management.domain.user.constants.SearchTrendWindow;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SearchTrendRequest {
+
+	@Builder.Default
+	@NotNull(message = "집계 기간을 입력해주세요!")
+	@Pattern(regexp = "1h|24h|7d", message = "올바른 집계 기간을 입력해주세요!")
+	private String window = "24h";
+
+	@Builder.Default
+	@NotNull(message = "조회 개수를 입력해주세요!")
+	@Min(value = 1, message = "조회 개수는 1 이상이어야 합니다!")
+	@Max(value = 50, message = "조회 개수는 50 이하여야 합니다!")
+	private Integer size = 10;
+
+	public SearchTrendWindow getTrendWindow() {
+		return SearchTrendWindow.from(window);
+	}
+}
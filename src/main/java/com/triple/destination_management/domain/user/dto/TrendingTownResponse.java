@@ -0,0 +1,40 @@
+package com.triple.destination_management.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.triple.destination_management.domain.town.entity.Town;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrendingTownResponse {
+
+	private Long id;
+
+	private String country;
+
+	private String area;
+
+	private String name;
+
+	private Long searchCount; // 추정 검색 횟수 (실제보다 조금 클 수 있음)
+
+	public static TrendingTownResponse of(
+		Town town,
+		Long searchCount
+	) {
+		return TrendingTownResponse.builder()
+			.id(town.getId())
+			.country(town.getCountry())
+			.area(town.getArea())
+			.name(town.getName())
+			.searchCount(searchCount)
+			.build();
+	}
+}
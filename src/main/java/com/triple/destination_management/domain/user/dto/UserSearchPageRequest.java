@@ -0,0 +1,23 @@
+package com.triple.destination_management.domain.user.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserSearchPageRequest {
+
+	@Builder.Default
+	@NotNull(message = "조회 개수를 입력해주세요!")
+	@Min(value = 1, message = "조회 개수는 1 이상이어야 합니다!")
+	@Max(value = 100, message = "조회 개수는 100 이하여야 합니다!")
+	private Integer limit = 20;
+}
@@ -0,0 +1,23 @@
+package com.triple.destination_management.domain.user.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserSearchRecord {
+
+	private Long userId;
+
+	private Long townId;
+
+	private LocalDateTime searchedAt; // 가장 최근 검색 시각
+
+	private int hitCount; // 반영 전 합쳐진 검색 횟수
+}
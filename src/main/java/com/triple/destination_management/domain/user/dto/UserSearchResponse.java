@@ -14,7 +14,9 @@ import lombok.NoArgsConstructor;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserSearchResponse {
 
-	private Long id;
+	private Long id; // 아직 반영되지 않은 검색은 null
+
+	private Long townId;
 
 	private String name;
 
@@ -1,14 +1,19 @@
 package com.triple.destination_management.domain.user.entity;
 
+import java.time.LocalDateTime;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
@@ -32,11 +37,16 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = true)
 @DynamicUpdate
 @DynamicInsert
-@Table(name = "t_user_search")
+@Table(name = "t_user_search", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_user_search_user_town", columnNames = {"user_id", "town_id"})
+}, indexes = {
+	@Index(name = "idx_user_search_user_date", columnList = "user_id, last_searched_at, town_id")
+})
 public class UserSearch extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_search_seq_generator")
+	@SequenceGenerator(name = "user_search_seq_generator", sequenceName = "t_user_search_seq", allocationSize = 50)
 	@Column(name = "user_search_id")
 	private Long id;
 
@@ -47,4 +57,10 @@ public class UserSearch extends BaseEntity {
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "town_id")
 	private Town town;
+
+	@Column(name = "last_searched_at")
+	private LocalDateTime lastSearchedAt; // 같은 도시를 다시 검색하면 갱신
+
+	@Column(name = "hit_count")
+	private Integer hitCount;
 }
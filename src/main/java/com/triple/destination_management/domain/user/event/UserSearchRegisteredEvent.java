@@ -0,0 +1,28 @@
+package com.triple.destination_management.domain.user.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserSearchRegisteredEvent {
+
+	private final Long userId;
+
+	private final Long townId; // 검색한 도시
+
+	private final LocalDateTime searchedAt;
+
+	public static UserSearchRegisteredEvent of(
+		Long userId,
+		Long townId,
+		LocalDateTime searchedAt
+	) {
+		return new UserSearchRegisteredEvent(userId, townId, searchedAt);
+	}
+}
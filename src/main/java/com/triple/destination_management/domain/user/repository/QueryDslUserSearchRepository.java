@@ -6,5 +6,16 @@ import com.triple.destination_management.domain.user.dto.UserSearchResponse;
 
 public interface QueryDslUserSearchRepository {
 
-	List<UserSearchResponse> findSearchByUserId(Long userId);
+	List<UserSearchResponse> findSearchByUserId(
+		Long userId,
+		int limit
+	);
+
+	List<Long> findUserIdsExceeding(int historySize);
+
+	long deleteOverflowSearches(
+		Long userId,
+		int historySize,
+		int batchSize
+	);
 }
@@ -2,11 +2,14 @@ package com.triple.destination_management.domain.user.repository;
 
 import static com.triple.destination_management.domain.user.entity.QUserSearch.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -22,16 +25,64 @@ public class QueryDslUserSearchRepositoryImpl implements QueryDslUserSearchRepos
 	private final JPAQueryFactory queryFactory;
 
 	@Override
-	public List<UserSearchResponse> findSearchByUserId(Long userId) {
+	public List<UserSearchResponse> findSearchByUserId(
+		Long userId,
+		int limit
+	) {
 		return queryFactory.select(
-			Projections.fields(UserSearchResponse.class, userSearch.id, userSearch.town.name, userSearch.town.country))
+			Projections.fields(UserSearchResponse.class, userSearch.id, userSearch.town.id.as("townId"),
+				userSearch.town.name, userSearch.town.country))
 			.from(userSearch)
 			.leftJoin(userSearch.town)
 			.where(eqUserId(userId))
-			.orderBy(userSearch.createDate.desc())
+			.orderBy(userSearch.lastSearchedAt.desc())
+			.limit(limit)
 			.fetch();
 	}
 
+	/**
+	 * 최근 검색도시가 historySize 개를 넘는 사용자 조회 (최초 정리용)
+	 */
+	@Override
+	public List<Long> findUserIdsExceeding(int historySize) {
+		return queryFactory.select(userSearch.user.id)
+			.from(userSearch)
+			.groupBy(userSearch.user.id)
+			.having(userSearch.count().gt(historySize))
+			.fetch();
+	}
+
+	/**
+	 * 최근 historySize 개를 넘는 오래된 검색도시를 batchSize 개까지 삭제
+	 * - 조회 이후 다시 검색되어 마지막 검색일이 갱신된 행은 삭제하지 않음
+	 */
+	@Override
+	@Transactional
+	public long deleteOverflowSearches(
+		Long userId,
+		int historySize,
+		int batchSize
+	) {
+		List<Tuple> overflows = queryFactory.select(userSearch.id, userSearch.lastSearchedAt)
+			.from(userSearch)
+			.where(eqUserId(userId))
+			.orderBy(userSearch.lastSearchedAt.desc(), userSearch.id.desc())
+			.offset(historySize)
+			.limit(batchSize)
+			.fetch();
+		if (overflows.isEmpty())
+			return 0;
+
+		List<Long> ids = overflows.stream().map(tuple -> tuple.get(userSearch.id)).collect(Collectors.toList());
+		LocalDateTime lastSearchedAt = overflows.get(0).get(userSearch.lastSearchedAt);
+		return queryFactory.delete(userSearch)
+			.where(
+				userSearch.id.in(ids),
+				userSearch.lastSearchedAt.loe(lastSearchedAt)
+			)
+			.execute();
+	}
+
 	private BooleanExpression eqUserId(Long userId) {
 		return userId != null ? userSearch.user.id.eq(userId) : userSearch.user.id.eq(-99999L);
 	}
@@ -0,0 +1,122 @@
+package com.triple.destination_management.domain.user.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import com.triple.destination_management.domain.user.dto.UserSearchRecord;
+import com.triple.destination_management.domain.user.entity.UserSearch;
+
+/**
+ * 최근 검색도시 upsert (JDBC 배치)
+ * - (user_id, town_id) 유니크 키로 한 행만 유지하며 마지막 검색일은 더 최근 값으로, 검색 횟수는 누적
+ * - H2 는 MERGE, MySQL 은 ON DUPLICATE KEY UPDATE 사용
+ */
+@Repository
+public class UserSearchUpsertRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final EntityManager entityManager;
+
+	private final UpsertDialect upsertDialect;
+
+	public UserSearchUpsertRepository(
+		JdbcTemplate jdbcTemplate,
+		EntityManager entityManager,
+		DataSource dataSource
+	) throws MetaDataAccessException {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+		String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+		DatabaseDriver databaseDriver = DatabaseDriver.fromProductName(productName);
+		this.upsertDialect = databaseDriver == DatabaseDriver.MYSQL || databaseDriver == DatabaseDriver.MARIADB
+			? UpsertDialect.MYSQL
+			: UpsertDialect.H2;
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출
+	 */
+	public void upsertAll(List<UserSearchRecord> records) {
+		List<Object[]> args = new ArrayList<>(records.size());
+		for (UserSearchRecord record : records)
+			args.add(upsertDialect.getArgs(nextId(), record));
+		jdbcTemplate.batchUpdate(upsertDialect.getSql(), args);
+	}
+
+	/**
+	 * 엔티티와 같은 시퀀스 생성기(pooled)로 아이디 발급 (이미 있는 행이면 사용되지 않음)
+	 */
+	private Long nextId() {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		return (Long)session.getFactory()
+			.getMetamodel()
+			.entityPersister(UserSearch.class)
+			.getIdentifierGenerator()
+			.generate(session, null);
+	}
+
+	private enum UpsertDialect {
+
+		H2("MERGE INTO t_user_search t"
+			+ " USING (SELECT CAST(? AS BIGINT) user_id, CAST(? AS BIGINT) town_id,"
+			+ " CAST(? AS TIMESTAMP) searched_at, CAST(? AS INT) hit_count) s"
+			+ " ON (t.user_id = s.user_id AND t.town_id = s.town_id)"
+			+ " WHEN MATCHED THEN UPDATE SET"
+			+ " last_searched_at = GREATEST(t.last_searched_at, s.searched_at), hit_count = t.hit_count + s.hit_count"
+			+ " WHEN NOT MATCHED THEN INSERT (user_search_id, user_id, town_id, create_date, last_searched_at, hit_count)"
+			+ " VALUES (?, s.user_id, s.town_id, s.searched_at, s.searched_at, s.hit_count)") {
+			@Override
+			Object[] getArgs(
+				Long id,
+				UserSearchRecord record
+			) {
+				Timestamp searchedAt = Timestamp.valueOf(record.getSearchedAt());
+				return new Object[] {record.getUserId(), record.getTownId(), searchedAt, record.getHitCount(), id};
+			}
+		},
+
+		MYSQL("INSERT INTO t_user_search (user_search_id, user_id, town_id, create_date, last_searched_at, hit_count)"
+			+ " VALUES (?, ?, ?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE"
+			+ " last_searched_at = GREATEST(last_searched_at, VALUES(last_searched_at)),"
+			+ " hit_count = hit_count + VALUES(hit_count)") {
+			@Override
+			Object[] getArgs(
+				Long id,
+				UserSearchRecord record
+			) {
+				Timestamp searchedAt = Timestamp.valueOf(record.getSearchedAt());
+				return new Object[] {id, record.getUserId(), record.getTownId(), searchedAt, searchedAt,
+					record.getHitCount()};
+			}
+		};
+
+		private final String sql;
+
+		UpsertDialect(String sql) {
+			this.sql = sql;
+		}
+
+		String getSql() {
+			return sql;
+		}
+
+		abstract Object[] getArgs(
+			Long id,
+			UserSearchRecord record
+		);
+	}
+}
@@ -0,0 +1,121 @@
+package com.triple.destination_management.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.user.constants.SearchTrendWindow;
+import com.triple.destination_management.domain.user.event.UserSearchRegisteredEvent;
+
+/**
+ * 인기 검색도시 집계
+ * - 검색 이벤트마다 기간별 SlidingCountMinSketch 에 더하고, 추정 횟수가 큰 도시를 후보로 CANDIDATE_SIZE 개까지 유지
+ * - 조회 시 후보의 추정 횟수로 힙에서 상위 도시를 고름 (t_user_search 를 GROUP BY 하지 않음)
+ * - 서버 메모리에만 두므로 서버별로 집계되고, 다시 시작하면 처음부터 집계
+ */
+@Component
+public class SearchTrendTracker {
+
+	private static final int CANDIDATE_SIZE = 200;
+
+	private final Map<SearchTrendWindow, TrendCounter> trendCounters = new EnumMap<>(SearchTrendWindow.class);
+
+	public SearchTrendTracker() {
+		for (SearchTrendWindow window : SearchTrendWindow.values()) {
+			SlidingCountMinSketch sketch = new SlidingCountMinSketch(window.getDuration(), window.getSlotCount());
+			trendCounters.put(window, new TrendCounter(sketch));
+		}
+	}
+
+	@EventListener
+	public void onSearchRegistered(UserSearchRegisteredEvent event) {
+		long timeMillis = toMillis(event.getSearchedAt());
+		trendCounters.values().forEach(trendCounter -> trendCounter.add(event.getTownId(), timeMillis));
+	}
+
+	/**
+	 * 기간 내 많이 검색된 도시 아이디와 추정 횟수 (많은 순)
+	 */
+	public List<Map.Entry<Long, Long>> findTrending(
+		SearchTrendWindow window,
+		int size,
+		LocalDateTime now
+	) {
+		return trendCounters.get(window).findTop(size, toMillis(now));
+	}
+
+	private static long toMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static class TrendCounter {
+
+		private final SlidingCountMinSketch sketch;
+
+		private final Set<Long> candidates = new HashSet<>();
+
+		private TrendCounter(SlidingCountMinSketch sketch) {
+			this.sketch = sketch;
+		}
+
+		/**
+		 * 후보가 가득 찼으면 추정 횟수가 가장 적은 후보보다 클 때만 교체
+		 */
+		private synchronized void add(
+			Long townId,
+			long timeMillis
+		) {
+			sketch.add(townId, timeMillis);
+			if (candidates.contains(townId) || candidates.size() < CANDIDATE_SIZE) {
+				candidates.add(townId);
+				return;
+			}
+
+			Long minTownId = null;
+			long minEstimate = Long.MAX_VALUE;
+			for (Long candidate : candidates) {
+				long estimate = sketch.estimate(candidate, timeMillis);
+				if (estimate < minEstimate) {
+					minTownId = candidate;
+					minEstimate = estimate;
+				}
+			}
+			if (sketch.estimate(townId, timeMillis) > minEstimate) {
+				candidates.remove(minTownId);
+				candidates.add(townId);
+			}
+		}
+
+		private synchronized List<Map.Entry<Long, Long>> findTop(
+			int size,
+			long timeMillis
+		) {
+			PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(size + 1, Map.Entry.comparingByValue());
+			for (Long candidate : candidates) {
+				long estimate = sketch.estimate(candidate, timeMillis);
+				if (estimate == 0)
+					continue;
+
+				heap.offer(Map.entry(candidate, estimate));
+				if (heap.size() > size)
+					heap.poll();
+			}
+
+			List<Map.Entry<Long, Long>> trending = new ArrayList<>(heap.size());
+			while (!heap.isEmpty())
+				trending.add(heap.poll());
+			Collections.reverse(trending);
+			return trending;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.triple.destination_management.domain.user.service;
+
+import java.time.Duration;
+
+/**
+ * 시간 구간(slot) 별 count-min sketch 를 고리 형태로 두고, 구간 전체의 합계 sketch 를 함께 유지
+ * - 가장 오래된 구간이 기간 밖으로 밀려나면 합계에서 빼고 비움
+ * - 추정치는 실제 횟수보다 작지 않음 (해시 충돌만큼 크게 추정될 수 있음)
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금
+ */
+class SlidingCountMinSketch {
+
+	private static final int DEPTH = 4;
+
+	private static final int WIDTH = 1024; // 2의 거듭제곱 (mask 로 나머지 계산)
+
+	private static final long[] SEEDS = {
+		0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+	};
+
+	private final long slotMillis;
+
+	private final int[][][] slots; // 구간별 sketch, 비어 있는 구간은 null
+
+	private final long[] slotEpochs;
+
+	private final long[][] total = new long[DEPTH][WIDTH];
+
+	private long latestEpoch = Long.MIN_VALUE;
+
+	SlidingCountMinSketch(
+		Duration window,
+		int slotCount
+	) {
+		this.slotMillis = window.toMillis() / slotCount;
+		this.slots = new int[slotCount][][];
+		this.slotEpochs = new long[slotCount];
+	}
+
+	/**
+	 * timeMillis 시점에 key 한 번 추가 (이미 기간 밖인 시점이면 무시)
+	 */
+	void add(
+		long key,
+		long timeMillis
+	) {
+		long epoch = timeMillis / slotMillis;
+		expire(epoch);
+		if (epoch <= latestEpoch - slots.length)
+			return;
+
+		int position = (int)Math.floorMod(epoch, (long)slots.length);
+		if (slots[position] == null) {
+			slots[position] = new int[DEPTH][WIDTH];
+			slotEpochs[position] = epoch;
+		}
+		for (int row = 0; row < DEPTH; row++) {
+			int column = index(key, row);
+			slots[position][row][column]++;
+			total[row][column]++;
+		}
+	}
+
+	/**
+	 * timeMillis 시점 기준 기간 내 key 의 추정 횟수
+	 */
+	long estimate(
+		long key,
+		long timeMillis
+	) {
+		expire(timeMillis / slotMillis);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++)
+			estimate = Math.min(estimate, total[row][index(key, row)]);
+		return estimate;
+	}
+
+	private void expire(long epoch) {
+		if (epoch <= latestEpoch)
+			return;
+
+		latestEpoch = epoch;
+		for (int position = 0; position < slots.length; position++) {
+			if (slots[position] == null || slotEpochs[position] > epoch - slots.length)
+				continue;
+
+			for (int row = 0; row < DEPTH; row++) {
+				for (int column = 0; column < WIDTH; column++)
+					total[row][column] -= slots[position][row][column];
+			}
+			slots[position] = null;
+		}
+	}
+
+	private static int index(
+		long key,
+		int row
+	) {
+		long hash = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 31)) * 0x94D049BB133111EBL;
+		return (int)(hash ^ (hash >>> 29)) & (WIDTH - 1);
+	}
+}
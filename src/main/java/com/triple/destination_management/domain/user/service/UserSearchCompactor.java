@@ -0,0 +1,102 @@
+package com.triple.destination_management.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
+import com.triple.destination_management.domain.user.repository.UserSearchRepository;
+
+/**
+ * 사용자별 최근 검색도시를 search.history-size 개까지만 유지
+ * - 검색이 반영된 사용자를 표시해 두었다가 주기적으로 초과분을 BATCH_SIZE 개씩 삭제
+ * - 처음 실행할 때는 이미 초과한 사용자를 모두 찾아 정리
+ * - 정리에 실패한 사용자는 다시 표시해 다음 주기에 재시도
+ */
+@Component
+public class UserSearchCompactor {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserSearchCompactor.class);
+
+	private static final int BATCH_SIZE = 1000; // 한 트랜잭션에서 삭제할 행 수
+
+	private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+	private final UserSearchRepository userSearchRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final int historySize;
+
+	private boolean isSwept = false;
+
+	public UserSearchCompactor(
+		UserSearchRepository userSearchRepository,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${search.history-size:100}") int historySize
+	) {
+		this.userSearchRepository = userSearchRepository;
+		this.eventPublisher = eventPublisher;
+		this.historySize = historySize;
+	}
+
+	public int getHistorySize() {
+		return historySize;
+	}
+
+	/**
+	 * 검색이 반영된 사용자 표시
+	 */
+	public void markDirty(Collection<Long> userIds) {
+		dirtyUserIds.addAll(userIds);
+	}
+
+	@Scheduled(fixedDelayString = "${search.compaction-interval:60000}")
+	public synchronized void compact() {
+		List<Long> userIds = new ArrayList<>(dirtyUserIds);
+		dirtyUserIds.removeAll(userIds);
+		if (!isSwept) {
+			try {
+				userIds = userSearchRepository.findUserIdsExceeding(historySize);
+			} catch (RuntimeException e) {
+				dirtyUserIds.addAll(userIds);
+				throw e;
+			}
+			isSwept = true;
+		}
+
+		for (Long userId : userIds) {
+			try {
+				compact(userId);
+			} catch (RuntimeException e) {
+				logger.warn("Failed to compact searches of user {}, retrying later", userId, e);
+				dirtyUserIds.add(userId);
+			}
+		}
+	}
+
+	/**
+	 * 사용자의 초과된 검색도시 삭제
+	 */
+	public long compact(Long userId) {
+		long deletedCount = 0;
+		long count;
+		do {
+			count = userSearchRepository.deleteOverflowSearches(userId, historySize, BATCH_SIZE);
+			deletedCount += count;
+		} while (count > 0);
+
+		if (deletedCount > 0)
+			eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId));
+		return deletedCount;
+	}
+}
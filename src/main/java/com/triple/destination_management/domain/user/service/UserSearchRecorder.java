@@ -0,0 +1,256 @@
+package com.triple.destination_management.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
+import com.triple.destination_management.domain.user.dto.UserSearchRecord;
+import com.triple.destination_management.domain.user.repository.UserSearchUpsertRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 최근 검색도시 지연 기록 (write-behind)
+ * - 검색 요청은 (사용자, 도시) 단위로 버퍼에 합쳐 두기만 하고 바로 반환
+ * - 주기적으로 버퍼를 비우며 JDBC 배치 upsert 로 반영 (개수 제한은 UserSearchCompactor 가 정리)
+ * - 버퍼는 search.buffer-size 개의 (사용자, 도시) 기록으로 제한 (동시에 추가되는 만큼만 넘칠 수 있음)
+ * - 가득 차면 요청 스레드는 기다리지 않고 반영 스레드만 깨우며, 새 (사용자, 도시) 기록은 버리고 개수만 셈
+ * - 종료 시 남은 기록을 한 번 더 반영하지만, 비정상 종료되면 반영 전 기록은 유실될 수 있음
+ */
+@Component
+public class UserSearchRecorder {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserSearchRecorder.class);
+
+	private final ConcurrentHashMap<SearchKey, UserSearchRecord> pendingSearches = new ConcurrentHashMap<>();
+
+	private volatile Map<SearchKey, UserSearchRecord> flushingSearches = Map.of(); // 반영 중인 기록 (조회 시 함께 보여줌)
+
+	private final UserSearchUpsertRepository userSearchUpsertRepository;
+
+	private final UserSearchCompactor userSearchCompactor;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final int bufferSize;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private long reportedDroppedCount;
+
+	private final ThreadPoolExecutor flushExecutor;
+
+	public UserSearchRecorder(
+		UserSearchUpsertRepository userSearchUpsertRepository,
+		UserSearchCompactor userSearchCompactor,
+		TransactionTemplate transactionTemplate,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${search.buffer-size:10000}") int bufferSize
+	) {
+		this.userSearchUpsertRepository = userSearchUpsertRepository;
+		this.userSearchCompactor = userSearchCompactor;
+		this.transactionTemplate = transactionTemplate;
+		this.eventPublisher = eventPublisher;
+		this.bufferSize = bufferSize;
+		// 반영 중이거나 이미 예약되어 있으면 더 쌓지 않고 버림
+		this.flushExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("search-flush-"),
+			new ThreadPoolExecutor.DiscardPolicy());
+		this.flushExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * 검색 기록 추가 (같은 사용자, 도시는 가장 최근 시각과 검색 횟수로 합침)
+	 */
+	public void record(
+		Long userId,
+		Long townId,
+		LocalDateTime searchedAt
+	) {
+		offer(new UserSearchRecord(userId, townId, searchedAt, 1));
+		if (pendingSearches.size() >= bufferSize)
+			flushExecutor.execute(this::flushQuietly);
+	}
+
+	/**
+	 * 버퍼가 가득 차서 버린 기록 수 (누적)
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * 아직 반영되지 않은 사용자의 검색 기록 (최근 순)
+	 */
+	public List<UserSearchRecord> findPending(Long userId) {
+		Map<Long, UserSearchRecord> searches = new HashMap<>();
+		Stream.of(flushingSearches, pendingSearches)
+			.flatMap(pending -> pending.values().stream())
+			.filter(record -> record.getUserId().equals(userId))
+			.forEach(record -> searches.merge(record.getTownId(), record, UserSearchRecorder::combine));
+
+		return searches.values().stream()
+			.sorted(Comparator.comparing(UserSearchRecord::getSearchedAt).reversed())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 버퍼에 모인 기록을 DB 에 반영
+	 */
+	@Scheduled(fixedDelayString = "${search.flush-interval:1000}")
+	public synchronized void flush() {
+		reportDropped();
+		if (pendingSearches.isEmpty())
+			return;
+
+		// 버퍼에서 지우기 전에 반영 중인 기록으로 먼저 보여줘야 조회 시 빠지는 순간이 없음
+		Map<SearchKey, UserSearchRecord> snapshot = Map.copyOf(pendingSearches);
+		flushingSearches = snapshot;
+		// 그 사이 합쳐진 기록은 버퍼에 남겨 다음 주기에 반영
+		Map<SearchKey, UserSearchRecord> searches = new HashMap<>();
+		snapshot.forEach((key, record) -> {
+			if (pendingSearches.remove(key, record))
+				searches.put(key, record);
+		});
+		flushingSearches = searches;
+
+		try {
+			Set<Long> userIds = write(new ArrayList<>(searches.values())).stream()
+				.map(UserSearchRecord::getUserId)
+				.collect(Collectors.toSet());
+			userIds.forEach(userId -> eventPublisher.publishEvent(TownFeedEvictEvent.ofUser(userId)));
+			userSearchCompactor.markDirty(userIds);
+		} finally {
+			flushingSearches = Map.of();
+		}
+	}
+
+	/**
+	 * 한 번에 반영하고
+	 * - 제약 조건 위반(삭제된 사용자, 도시 등)이면 한 건씩 다시 반영해 실패한 기록만 버림
+	 * - 그 밖의 오류(연결 / 트랜잭션 시작 실패 등)면 다음 주기에 다시 반영하도록 버퍼에 되돌림
+	 */
+	private List<UserSearchRecord> write(List<UserSearchRecord> records) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> userSearchUpsertRepository.upsertAll(records));
+			return records;
+		} catch (DataIntegrityViolationException e) {
+			List<UserSearchRecord> writtenRecords = new ArrayList<>(records.size());
+			for (int i = 0; i < records.size(); i++) {
+				UserSearchRecord record = records.get(i);
+				try {
+					transactionTemplate.executeWithoutResult(
+						status -> userSearchUpsertRepository.upsertAll(List.of(record)));
+					writtenRecords.add(record);
+				} catch (DataIntegrityViolationException ex) {
+					logger.warn("Dropped search record {}", record, ex);
+				} catch (RuntimeException ex) {
+					requeue(records.subList(i, records.size()), ex);
+					break;
+				}
+			}
+			return writtenRecords;
+		} catch (RuntimeException e) {
+			requeue(records, e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 되돌릴 때도 버퍼 크기를 넘는 새 기록은 버림
+	 */
+	private void requeue(
+		List<UserSearchRecord> records,
+		RuntimeException e
+	) {
+		logger.warn("Failed to flush {} search records, retrying later", records.size(), e);
+		records.forEach(this::offer);
+	}
+
+	/**
+	 * 이미 있는 (사용자, 도시) 기록에는 합치고, 새 기록은 버퍼에 자리가 있을 때만 추가
+	 */
+	private void offer(UserSearchRecord record) {
+		SearchKey key = new SearchKey(record.getUserId(), record.getTownId());
+		if (pendingSearches.computeIfPresent(key, (k, pending) -> combine(pending, record)) != null)
+			return;
+
+		if (pendingSearches.size() >= bufferSize) {
+			droppedCount.incrementAndGet();
+			return;
+		}
+		pendingSearches.merge(key, record, UserSearchRecorder::combine);
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			logger.warn("Failed to flush search records", e);
+		}
+	}
+
+	private void reportDropped() {
+		long dropped = droppedCount.get();
+		if (dropped > reportedDroppedCount) {
+			logger.warn("Dropped {} search records because the buffer was full", dropped - reportedDroppedCount);
+			reportedDroppedCount = dropped;
+		}
+	}
+
+	/**
+	 * 종료 전 반영 스레드를 멈추고 버퍼에 남은 기록 반영
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		flushExecutor.shutdown();
+		flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		flush();
+	}
+
+	private static UserSearchRecord combine(
+		UserSearchRecord a,
+		UserSearchRecord b
+	) {
+		LocalDateTime searchedAt = a.getSearchedAt().isAfter(b.getSearchedAt()) ? a.getSearchedAt() : b.getSearchedAt();
+		return new UserSearchRecord(a.getUserId(), a.getTownId(), searchedAt, a.getHitCount() + b.getHitCount());
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static class SearchKey {
+
+		private final Long userId;
+
+		private final Long townId;
+	}
+}
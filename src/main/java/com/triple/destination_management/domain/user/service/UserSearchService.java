@@ -1,16 +1,25 @@
 package com.triple.destination_management.domain.user.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.town.exception.TownNotFoundException;
 import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.user.constants.SearchTrendWindow;
+import com.triple.destination_management.domain.user.dto.TrendingTownResponse;
+import com.triple.destination_management.domain.user.dto.UserSearchRecord;
 import com.triple.destination_management.domain.user.dto.UserSearchResponse;
-import com.triple.destination_management.domain.user.entity.User;
-import com.triple.destination_management.domain.user.entity.UserSearch;
+import com.triple.destination_management.domain.user.event.UserSearchRegisteredEvent;
 import com.triple.destination_management.domain.user.exception.UserNotFoundException;
 import com.triple.destination_management.domain.user.repository.UserRepository;
 import com.triple.destination_management.domain.user.repository.UserSearchRepository;
@@ -28,34 +37,96 @@ public class UserSearchService {
 
 	private final TownRepository townRepository;
 
+	private final UserSearchRecorder userSearchRecorder;
+
+	private final UserSearchCompactor userSearchCompactor;
+
+	private final SearchTrendTracker searchTrendTracker;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * 최근 검색도시 저장하기
+	 * - 검색 기록은 UserSearchRecorder 가 모아서 반영하므로 검색한 도시 아이디를 반환
 	 */
-	@Transactional
 	public Long registerSearch(
 		Long townId,
 		Long userId
 	) {
-		Town town = townRepository.findById(townId).orElseThrow(TownNotFoundException::new);
-		User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-
-		userSearchRepository.findUserSearchByUserAndTown(user, town).ifPresent(userSearchRepository::delete);
-		UserSearch userSearch = UserSearch.builder()
-			.town(town)
-			.user(user)
-			.build();
+		if (!townRepository.existsById(townId))
+			throw new TownNotFoundException();
 
-		UserSearch savedSearch = userSearchRepository.save(userSearch);
-		return savedSearch.getId();
+		LocalDateTime searchedAt = LocalDateTime.now();
+		userSearchRecorder.record(userId, townId, searchedAt);
+		eventPublisher.publishEvent(UserSearchRegisteredEvent.of(userId, townId, searchedAt));
+		return townId;
 	}
 
 	/**
 	 * 최근 검색도시 조회하기
+	 * - 최대 search.history-size 개까지 보관하므로 그 이상은 조회되지 않음
 	 */
-	public List<UserSearchResponse> findSearch(Long userId) {
-		if (userRepository.findById(userId).isPresent())
-			return userSearchRepository.findSearchByUserId(userId);
-		else
+	public List<UserSearchResponse> findSearch(
+		Long userId,
+		int limit
+	) {
+		if (!userRepository.existsById(userId))
 			throw new UserNotFoundException();
+
+		int size = Math.min(limit, userSearchCompactor.getHistorySize());
+		List<UserSearchRecord> pendingRecords = userSearchRecorder.findPending(userId);
+		// 반영 전 기록과 겹치는 도시는 제외되므로 그만큼 더 조회
+		List<UserSearchResponse> userSearchResponses =
+			userSearchRepository.findSearchByUserId(userId, size + pendingRecords.size());
+		if (!pendingRecords.isEmpty())
+			userSearchResponses = mergePending(pendingRecords, userSearchResponses);
+		return userSearchResponses.size() > size ? userSearchResponses.subList(0, size) : userSearchResponses;
+	}
+
+	/**
+	 * 인기 검색도시 조회하기
+	 * - SearchTrendTracker 의 추정 횟수 기준이므로 실제 검색 횟수와 조금 다를 수 있음
+	 */
+	public List<TrendingTownResponse> findTrendingTowns(
+		SearchTrendWindow window,
+		int size
+	) {
+		List<Map.Entry<Long, Long>> trending = searchTrendTracker.findTrending(window, size, LocalDateTime.now());
+		List<Long> townIds = trending.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+		Map<Long, Town> towns = townRepository.findAllById(townIds).stream()
+			.collect(Collectors.toMap(Town::getId, Function.identity()));
+
+		// 삭제된 도시는 제외
+		return trending.stream()
+			.filter(entry -> towns.containsKey(entry.getKey()))
+			.map(entry -> TrendingTownResponse.of(towns.get(entry.getKey()), entry.getValue()))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 아직 반영되지 않은 검색 기록을 앞에 두고, 같은 도시의 이전 기록은 제외
+	 */
+	private List<UserSearchResponse> mergePending(
+		List<UserSearchRecord> pendingRecords,
+		List<UserSearchResponse> userSearchResponses
+	) {
+		Set<Long> townIds = pendingRecords.stream().map(UserSearchRecord::getTownId).collect(Collectors.toSet());
+		Map<Long, Town> towns = townRepository.findAllById(townIds).stream()
+			.collect(Collectors.toMap(Town::getId, Function.identity()));
+
+		List<UserSearchResponse> mergedResponses = new ArrayList<>(pendingRecords.size() + userSearchResponses.size());
+		for (UserSearchRecord pendingRecord : pendingRecords) {
+			Town town = towns.get(pendingRecord.getTownId());
+			if (town != null)
+				mergedResponses.add(UserSearchResponse.builder()
+					.townId(town.getId())
+					.name(town.getName())
+					.country(town.getCountry())
+					.build());
+		}
+		userSearchResponses.stream()
+			.filter(userSearchResponse -> !townIds.contains(userSearchResponse.getTownId()))
+			.forEach(mergedResponses::add);
+		return mergedResponses;
 	}
 }
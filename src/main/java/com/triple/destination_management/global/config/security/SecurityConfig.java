@@ -1,5 +1,6 @@
 package com.triple.destination_management.global.config.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,22 +14,30 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import com.triple.destination_management.global.config.security.jwt.JwtPrincipalCache;
 import com.triple.destination_management.global.config.security.jwt.JwtProvider;
 import com.triple.destination_management.global.config.security.jwt.filter.JwtAuthenticationFilter;
 import com.triple.destination_management.global.config.security.jwt.filter.JwtAuthorizationFilter;
 import com.triple.destination_management.global.config.security.jwt.handler.JwtAuthenticationDeniedHandler;
 import com.triple.destination_management.global.config.security.jwt.handler.JwtAuthenticationEntryPoint;
 
-import lombok.RequiredArgsConstructor;
-
 @Configuration
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)
-@RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
 	private final JwtProvider jwtProvider;
 
+	private final int principalCacheSize;
+
+	public SecurityConfig(
+		JwtProvider jwtProvider,
+		@Value("${jwt.principal-cache-size:10000}") int principalCacheSize
+	) {
+		this.jwtProvider = jwtProvider;
+		this.principalCacheSize = principalCacheSize;
+	}
+
 	@Bean
 	public BCryptPasswordEncoder passwordEncoder() {
 		return new BCryptPasswordEncoder();
@@ -46,7 +55,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 		http.addFilterBefore(new JwtAuthenticationFilter(authenticationManager(), jwtProvider),
 			UsernamePasswordAuthenticationFilter.class
 		)
-			.addFilterBefore(new JwtAuthorizationFilter(authenticationManager(), jwtProvider),
+			.addFilterBefore(new JwtAuthorizationFilter(authenticationManager(), jwtProvider,
+				new JwtPrincipalCache(principalCacheSize)),
 				BasicAuthenticationFilter.class
 			);
 
@@ -0,0 +1,44 @@
+package com.triple.destination_management.global.config.security.jwt;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 서명 검증이 끝난 토큰의 사용자 정보
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtPrincipal {
+
+	private final Long userId;
+
+	private final String role;
+
+	private final long expiration; // epoch millis
+
+	public static JwtPrincipal of(
+		Claims claims,
+		String userIdKey,
+		String roleKey
+	) {
+		Date expiration = claims.getExpiration();
+		return new JwtPrincipal(
+			claims.get(userIdKey, Long.class),
+			claims.get(roleKey, String.class),
+			expiration != null ? expiration.getTime() : Long.MAX_VALUE
+		);
+	}
+
+	public boolean isExpired(long now) {
+		return now >= expiration;
+	}
+}
@@ -0,0 +1,75 @@
+package com.triple.destination_management.global.config.security.jwt;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 토큰별 검증된 사용자 정보 캐시
+ * - 같은 토큰이 다시 들어오면 서명 검증을 건너뜀
+ * - 토큰 만료 시각이 지나면 캐시에서도 제거
+ * - 최대 크기를 넘으면 만료된 항목부터, 그래도 넘으면 임의의 항목을 지워 최대 크기의 90% 까지 줄임 (근사 제거)
+ * - 조회 / 저장에 전역 잠금이 없고, 제거는 한 스레드만 수행
+ */
+public class JwtPrincipalCache {
+
+	private static final double EVICTION_RATIO = 0.9;
+
+	private final Map<String, JwtPrincipal> principals = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean isEvicting = new AtomicBoolean(false);
+
+	private final int maxSize;
+
+	public JwtPrincipalCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public JwtPrincipal get(String token) {
+		JwtPrincipal principal = principals.get(token);
+		if (principal == null)
+			return null;
+
+		if (principal.isExpired(System.currentTimeMillis())) {
+			principals.remove(token, principal);
+			return null;
+		}
+		return principal;
+	}
+
+	public void put(
+		String token,
+		JwtPrincipal principal
+	) {
+		principals.put(token, principal);
+		if (principals.size() > maxSize)
+			evict();
+	}
+
+	int size() {
+		return principals.size();
+	}
+
+	/**
+	 * 다른 스레드가 이미 제거 중이라면 기다리지 않고 넘어감
+	 */
+	private void evict() {
+		if (!isEvicting.compareAndSet(false, true))
+			return;
+
+		try {
+			long now = System.currentTimeMillis();
+			principals.values().removeIf(principal -> principal.isExpired(now));
+
+			int targetSize = (int)(maxSize * EVICTION_RATIO);
+			Iterator<String> iterator = principals.keySet().iterator();
+			while (principals.size() > targetSize && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} finally {
+			isEvicting.set(false);
+		}
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import com.triple.destination_management.domain.user.entity.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -22,18 +23,12 @@ public class JwtProvider {
 
 	private final Key key;
 
+	private final JwtParser jwtParser; // 불변 객체이므로 모든 요청에서 공유
+
 	public JwtProvider(@Value("${jwt.secret}") String secretKey) {
 		byte[] bytes = Decoders.BASE64.decode(secretKey);
 		this.key = Keys.hmacShaKeyFor(bytes);
-	}
-
-	public Long getUserId(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(key)
-			.build()
-			.parseClaimsJws(token)
-			.getBody()
-			.get(USER_ID, Long.class);
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
 	}
 
 	public String createAccessToken(User user) {
@@ -53,21 +48,11 @@ public class JwtProvider {
 		return accessTokenClaims;
 	}
 
-	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
-		} catch (Exception e) {
-			return false;
-		}
-	}
-
-	public String getUserRole(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(key)
-			.build()
-			.parseClaimsJws(token)
-			.getBody()
-			.get(USER_ROLE, String.class);
+	/**
+	 * 서명을 한 번만 검증하고 사용자 정보 반환 (유효하지 않은 토큰일 경우 JwtException)
+	 */
+	public JwtPrincipal parse(String token) {
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
+		return JwtPrincipal.of(claims, USER_ID, USER_ROLE);
 	}
 }
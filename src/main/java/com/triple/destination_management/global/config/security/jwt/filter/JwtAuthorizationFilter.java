@@ -15,19 +15,27 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.util.StringUtils;
 
+import com.triple.destination_management.global.config.security.jwt.JwtPrincipal;
+import com.triple.destination_management.global.config.security.jwt.JwtPrincipalCache;
 import com.triple.destination_management.global.config.security.jwt.JwtProperties;
 import com.triple.destination_management.global.config.security.jwt.JwtProvider;
 
+import io.jsonwebtoken.JwtException;
+
 public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
 	private final JwtProvider jwtProvider;
 
+	private final JwtPrincipalCache principalCache;
+
 	public JwtAuthorizationFilter(
 		AuthenticationManager authenticationManager,
-		JwtProvider jwtProvider
+		JwtProvider jwtProvider,
+		JwtPrincipalCache principalCache
 	) {
 		super(authenticationManager);
 		this.jwtProvider = jwtProvider;
+		this.principalCache = principalCache;
 	}
 
 	@Override
@@ -37,15 +45,35 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 		FilterChain chain
 	) throws IOException, ServletException {
 		String accessToken = getAccessToken(request);
-		if (idValidAccessToken(accessToken))
-			addAuthenticationTokenInSecurityContext(accessToken);
+		JwtPrincipal principal = getPrincipal(accessToken);
+		if (principal != null)
+			addAuthenticationTokenInSecurityContext(principal);
 		chain.doFilter(request, response);
 	}
 
-	private void addAuthenticationTokenInSecurityContext(String accessToken) {
-		Long userId = jwtProvider.getUserId(accessToken);
-		String role = jwtProvider.getUserRole(accessToken);
-		SecurityContextHolder.getContext().setAuthentication(getAuthenticationToken(userId, role));
+	private void addAuthenticationTokenInSecurityContext(JwtPrincipal principal) {
+		SecurityContextHolder.getContext()
+			.setAuthentication(getAuthenticationToken(principal.getUserId(), principal.getRole()));
+	}
+
+	/**
+	 * 캐시에 없는 토큰만 서명 검증 후 캐시에 저장
+	 */
+	private JwtPrincipal getPrincipal(String accessToken) {
+		if (accessToken == null)
+			return null;
+
+		JwtPrincipal principal = principalCache.get(accessToken);
+		if (principal != null)
+			return principal;
+
+		try {
+			principal = jwtProvider.parse(accessToken);
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+		principalCache.put(accessToken, principal);
+		return principal;
 	}
 
 	private UsernamePasswordAuthenticationToken getAuthenticationToken(
@@ -68,8 +96,4 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 	private boolean verifyTextAndPrefix(String bearerToken) {
 		return StringUtils.hasText(bearerToken) && bearerToken.startsWith(JwtProperties.TOKEN_PREFIX);
 	}
-
-	private boolean idValidAccessToken(String accessToken) {
-		return accessToken != null && jwtProvider.validateToken(accessToken);
-	}
 }
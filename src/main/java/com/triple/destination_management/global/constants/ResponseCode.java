@@ -21,6 +21,7 @@ public enum ResponseCode {
 	TYPE_MISS_MATCHED(400, ResponseCategory.CLIENT_SIDE, "Type miss matched"),
 	REMOVE_DEPENDENCY(400, ResponseCategory.CLIENT_SIDE, "remove town dependency"),
 	ACCESS_DENIED(400, ResponseCategory.CLIENT_SIDE, "Access denied"),
+	OVERLAPPED_REQUEST(400, ResponseCategory.CLIENT_SIDE, "Overlapped trip"),
 
 	// 5xx error case
 	INTERNAL_ERROR(500, ResponseCategory.SERVER_SIDE, "Internal error"),
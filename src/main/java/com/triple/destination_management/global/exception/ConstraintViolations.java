@@ -0,0 +1,29 @@
+package com.triple.destination_management.global.exception;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 제약 조건 위반의 원인 구분
+ */
+public final class ConstraintViolations {
+
+	private ConstraintViolations() {
+	}
+
+	/**
+	 * 위반한 제약 조건 이름이 constraintName 인지 확인 (Dialect 가 이름을 꺼내지 못하면 DB 오류 메시지에서 찾는다)
+	 */
+	public static boolean isViolated(
+		DataIntegrityViolationException e,
+		String constraintName
+	) {
+		String violated = e.getCause() instanceof ConstraintViolationException
+			? ((ConstraintViolationException)e.getCause()).getConstraintName() : null;
+		if (violated == null)
+			violated = e.getMostSpecificCause().getMessage();
+		return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName);
+	}
+}
@@ -0,0 +1,74 @@
+-- sequence (allocationSize = 50)
+CREATE SEQUENCE t_user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE t_town_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE t_trip_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE t_user_search_seq START WITH 1 INCREMENT BY 50;
+
+-- user
+CREATE TABLE t_user (
+    user_id       BIGINT       NOT NULL,
+    create_date   DATETIME     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date   DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    user_username VARCHAR(100),
+    user_password VARCHAR(200),
+    user_name     VARCHAR(100),
+    user_role     VARCHAR(20),
+    CONSTRAINT pk_user PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_username UNIQUE (user_username)
+);
+
+-- town
+CREATE TABLE t_town (
+    town_id      BIGINT       NOT NULL,
+    create_date  DATETIME     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date  DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    town_country VARCHAR(100),
+    town_area    VARCHAR(100),
+    town_name    VARCHAR(100),
+    town_code    VARCHAR(100),
+    CONSTRAINT pk_town PRIMARY KEY (town_id),
+    CONSTRAINT uk_town_code UNIQUE (town_code)
+);
+
+-- 최근 등록 도시
+CREATE INDEX idx_town_create_date ON t_town (create_date);
+-- 국가 / 지역 필터 키셋 페이지
+CREATE INDEX idx_town_country_area ON t_town (town_country, town_area);
+
+-- trip
+CREATE TABLE t_trip (
+    trip_id         BIGINT   NOT NULL,
+    create_date     DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date     DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    trip_start_date DATETIME,
+    trip_end_date   DATETIME,
+    town_id         BIGINT,
+    user_id         BIGINT,
+    CONSTRAINT pk_trip PRIMARY KEY (trip_id),
+    CONSTRAINT fk_trip_town FOREIGN KEY (town_id) REFERENCES t_town (town_id),
+    CONSTRAINT fk_trip_user FOREIGN KEY (user_id) REFERENCES t_user (user_id)
+);
+
+-- 여행중 / 피드 후보 / 다음 여행 경계 (user_id + 종료일)
+CREATE INDEX idx_trip_user_end_date ON t_trip (user_id, trip_end_date, trip_start_date, town_id);
+-- 여행 예정 (user_id + 시작일)
+CREATE INDEX idx_trip_user_start_date ON t_trip (user_id, trip_start_date, town_id);
+-- 피드 도시별 여행중 / 여행 예정 여부
+CREATE INDEX idx_trip_user_town ON t_trip (user_id, town_id, trip_start_date, trip_end_date);
+
+-- user search
+CREATE TABLE t_user_search (
+    user_search_id BIGINT   NOT NULL,
+    create_date    DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date    DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    user_id        BIGINT,
+    town_id        BIGINT,
+    CONSTRAINT pk_user_search PRIMARY KEY (user_search_id),
+    CONSTRAINT fk_user_search_user FOREIGN KEY (user_id) REFERENCES t_user (user_id),
+    CONSTRAINT fk_user_search_town FOREIGN KEY (town_id) REFERENCES t_town (town_id)
+);
+
+-- 최근 검색 / 피드 후보 (user_id + 검색일)
+CREATE INDEX idx_user_search_user_date ON t_user_search (user_id, create_date, town_id);
+-- 피드 도시별 최근 검색 여부
+CREATE INDEX idx_user_search_user_town ON t_user_search (user_id, town_id, create_date);
@@ -0,0 +1,20 @@
+-- 최근 검색은 (사용자, 도시) 당 한 행을 갱신 (upsert)
+ALTER TABLE t_user_search ADD COLUMN last_searched_at DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL;
+ALTER TABLE t_user_search ADD COLUMN hit_count INT DEFAULT 1 NOT NULL;
+
+UPDATE t_user_search SET last_searched_at = create_date;
+
+-- 같은 (사용자, 도시) 의 이전 기록 정리
+DELETE FROM t_user_search s
+WHERE EXISTS (
+    SELECT 1 FROM t_user_search n
+    WHERE n.user_id = s.user_id AND n.town_id = s.town_id AND n.user_search_id > s.user_search_id
+);
+
+-- 도시별 최근 검색 여부 (user_id + town_id) 는 유니크 인덱스로 조회
+ALTER TABLE t_user_search ADD CONSTRAINT uk_user_search_user_town UNIQUE (user_id, town_id);
+DROP INDEX idx_user_search_user_town;
+
+-- 최근 검색 / 피드 후보 (user_id + 마지막 검색일)
+DROP INDEX idx_user_search_user_date;
+CREATE INDEX idx_user_search_user_date ON t_user_search (user_id, last_searched_at, town_id);
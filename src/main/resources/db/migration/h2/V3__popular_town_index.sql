@@ -0,0 +1,3 @@
+-- 인기 도시 순위 집계 (기간 내 도시별 여행 / 검색 수) 는 기간 조건으로 시작하는 인덱스만 훑음
+CREATE INDEX idx_trip_create_date ON t_trip (create_date, town_id);
+CREATE INDEX idx_user_search_searched_at ON t_user_search (last_searched_at, town_id);
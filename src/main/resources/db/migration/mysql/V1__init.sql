@@ -0,0 +1,68 @@
+-- sequence (MySQL 은 시퀀스가 없어 Hibernate 가 테이블로 대신함, allocationSize = 50)
+CREATE TABLE t_user_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO t_user_seq VALUES (1);
+CREATE TABLE t_town_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO t_town_seq VALUES (1);
+CREATE TABLE t_trip_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO t_trip_seq VALUES (1);
+CREATE TABLE t_user_search_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO t_user_search_seq VALUES (1);
+
+-- user
+CREATE TABLE t_user (
+    user_id       BIGINT       NOT NULL,
+    create_date   DATETIME     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date   DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    user_username VARCHAR(100),
+    user_password VARCHAR(200),
+    user_name     VARCHAR(100),
+    user_role     VARCHAR(20),
+    CONSTRAINT pk_user PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_username UNIQUE (user_username)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- town
+CREATE TABLE t_town (
+    town_id      BIGINT       NOT NULL,
+    create_date  DATETIME     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date  DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    town_country VARCHAR(100),
+    town_area    VARCHAR(100),
+    town_name    VARCHAR(100),
+    town_code    VARCHAR(100),
+    CONSTRAINT pk_town PRIMARY KEY (town_id),
+    CONSTRAINT uk_town_code UNIQUE (town_code),
+    INDEX idx_town_create_date (create_date),
+    INDEX idx_town_country_area (town_country, town_area)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- trip
+CREATE TABLE t_trip (
+    trip_id         BIGINT   NOT NULL,
+    create_date     DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date     DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    trip_start_date DATETIME,
+    trip_end_date   DATETIME,
+    town_id         BIGINT,
+    user_id         BIGINT,
+    CONSTRAINT pk_trip PRIMARY KEY (trip_id),
+    INDEX idx_trip_user_end_date (user_id, trip_end_date, trip_start_date, town_id),
+    INDEX idx_trip_user_start_date (user_id, trip_start_date, town_id),
+    INDEX idx_trip_user_town (user_id, town_id, trip_start_date, trip_end_date),
+    CONSTRAINT fk_trip_town FOREIGN KEY (town_id) REFERENCES t_town (town_id),
+    CONSTRAINT fk_trip_user FOREIGN KEY (user_id) REFERENCES t_user (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- user search
+CREATE TABLE t_user_search (
+    user_search_id BIGINT   NOT NULL,
+    create_date    DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    update_date    DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+    user_id        BIGINT,
+    town_id        BIGINT,
+    CONSTRAINT pk_user_search PRIMARY KEY (user_search_id),
+    INDEX idx_user_search_user_date (user_id, create_date, town_id),
+    INDEX idx_user_search_user_town (user_id, town_id, create_date),
+    CONSTRAINT fk_user_search_user FOREIGN KEY (user_id) REFERENCES t_user (user_id),
+    CONSTRAINT fk_user_search_town FOREIGN KEY (town_id) REFERENCES t_town (town_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,6 @@
+-- 인기 도시 순위 집계 (기간 내 도시별 여행 / 검색 수) 는 기간 조건으로 시작하는 인덱스만 훑음
+ALTER TABLE t_trip
+    ADD INDEX idx_trip_create_date (create_date, town_id);
+
+ALTER TABLE t_user_search
+    ADD INDEX idx_user_search_searched_at (last_searched_at, town_id);
@@ -21,6 +21,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.triple.destination_management.domain.town.dto.TownRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.service.TownExportService;
+import com.triple.destination_management.domain.town.service.TownImportService;
 import com.triple.destination_management.domain.town.service.TownService;
 import com.triple.destination_management.domain.user.constants.Auth;
 import com.triple.destination_management.domain.user.entity.User;
@@ -44,6 +46,12 @@ class TownControllerTest {
 	@MockBean
 	private TownService townService;
 
+	@MockBean
+	private TownImportService townImportService;
+
+	@MockBean
+	private TownExportService townExportService;
+
 	private String token;
 
 	private List<TownResponse> towns = new ArrayList<>();
@@ -410,6 +418,20 @@ class TownControllerTest {
 		then(townService).should().findTownsByUser(userId);
 	}
 
+	@Test
+	@DisplayName("# [6-1]-[GET] 조회 개수를 비워서 도시 페이지 조회하기")
+	void findTownPageWithEmptySize() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/towns/page")
+			.param("size", "")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(townService).should(never()).findTownPage(any());
+	}
+
 	private TownRequest getTownRequest(
 		String name,
 		String country
@@ -0,0 +1,153 @@
+package com.triple.destination_management.domain.town.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+/**
+ * 피드 쿼리가 마이그레이션(db/migration/h2)에서 만든 인덱스를 타는지 H2 EXPLAIN 으로 확인
+ * - 저장소 메서드가 실제로 만든 SQL 을 StatementInspector 로 가로채 EXPLAIN 하므로 쿼리를 바꾸면 함께 검증됨
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+	+ "com.triple.destination_management.domain.town.repository.FeedQueryPlanTest$CapturingStatementInspector")
+@DisplayName("** [ FeedQueryPlanTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class})
+class FeedQueryPlanTest {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TownRepository townRepository;
+
+	private final TripRepository tripRepository;
+
+	FeedQueryPlanTest(
+		@Autowired JdbcTemplate jdbcTemplate,
+		@Autowired TownRepository townRepository,
+		@Autowired TripRepository tripRepository
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.townRepository = townRepository;
+		this.tripRepository = tripRepository;
+	}
+
+	@Test
+	@DisplayName("# [1] 최근 검색 도시 조회는 user_id + 마지막 검색일 인덱스 사용")
+	void recentSearchTownsUseIndex() {
+		assertThat(explain(() -> townRepository.findRecentSearchTowns(getTownFindDto())))
+			.containsIgnoringCase("idx_user_search_user_date");
+	}
+
+	@Test
+	@DisplayName("# [2] 최근 등록 도시 조회는 등록일 인덱스 사용")
+	void recentInsertTownsUseIndex() {
+		assertThat(explain(() -> townRepository.findRecentInsertTowns(getTownFindDto())))
+			.containsIgnoringCase("idx_town_create_date");
+	}
+
+	@Test
+	@DisplayName("# [3] 여행 구간 색인 적재는 user_id 로 시작하는 여행 인덱스 사용")
+	void tripIntervalsUseIndex() {
+		assertThat(explain(() -> tripRepository.findTripIntervals(1L)))
+			.containsIgnoringCase("idx_trip_user_");
+	}
+
+	@Test
+	@DisplayName("# [4] 인기 도시 집계는 기간으로 시작하는 여행 / 검색 인덱스 사용")
+	void popularTownsUseIndex() {
+		Runnable query = () -> townRepository.findPopularTowns(LocalDateTime.now().minusDays(7), 10);
+		assertThat(explain(query, 0))
+			.containsIgnoringCase("idx_trip_create_date");
+		assertThat(explain(query, 1))
+			.containsIgnoringCase("idx_user_search_searched_at");
+	}
+
+	@Test
+	@DisplayName("# [5] 한 번에 조회하는 피드(combined) 의 도시별 여행 / 검색 여부는 user_id + town_id 인덱스 사용")
+	void feedTownsUseIndex() {
+		// 후보 도시 조건이 OR 로 묶여 있어 도시 테이블은 전체를 훑으므로 하위 쿼리의 인덱스만 확인
+		assertThat(explainWithoutScanCheck(() -> townRepository.findFeedTowns(getTownFindDto())))
+			.containsIgnoringCase("idx_trip_user_town")
+			.containsIgnoringCase("uk_user_search_user_town");
+	}
+
+	private TownFindDto getTownFindDto() {
+		return TownFindDto.getTownFindDto(1L, List.of(0L), 10);
+	}
+
+	private String explain(Runnable query) {
+		return explain(query, 0);
+	}
+
+	private String explain(
+		Runnable query,
+		int index
+	) {
+		String plan = explainWithoutScanCheck(query, index);
+		assertThat(plan).doesNotContainIgnoringCase("tableScan");
+		return plan;
+	}
+
+	private String explainWithoutScanCheck(Runnable query) {
+		return explainWithoutScanCheck(query, 0);
+	}
+
+	/**
+	 * 쿼리를 실행해 index 번째로 만들어진 SQL 의 실행 계획 조회 (바인딩 변수는 EXPLAIN 에서 값 없이 허용됨)
+	 */
+	private String explainWithoutScanCheck(
+		Runnable query,
+		int index
+	) {
+		CapturingStatementInspector.clear();
+		query.run();
+		String sql = CapturingStatementInspector.getStatement(index);
+		assertThat(sql).isNotNull();
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+	}
+
+	/**
+	 * Hibernate 가 만든 SQL 을 그대로 기록 (Hibernate 가 직접 생성하므로 정적 목록에 보관)
+	 */
+	public static class CapturingStatementInspector implements StatementInspector {
+
+		private static final List<String> statements = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			synchronized (statements) {
+				statements.add(sql);
+			}
+			return sql;
+		}
+
+		private static void clear() {
+			synchronized (statements) {
+				statements.clear();
+			}
+		}
+
+		private static String getStatement(int index) {
+			synchronized (statements) {
+				return index < statements.size() ? statements.get(index) : null;
+			}
+		}
+	}
+}
@@ -17,7 +17,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.triple.destination_management.domain.town.dto.TownFeedDto;
 import com.triple.destination_management.domain.town.dto.TownFindDto;
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.trip.entity.Trip;
@@ -89,133 +91,126 @@ class TownRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("# [2] 상위 도시 10개 조회하기")
-	void findTownsByLimit() {
+	@DisplayName("# [6] 최근에 조회된 도시 조회하기")
+	void findRecentSearchTowns() {
 		// given
+		User user = getUser();
+		User savedUser = userRepository.save(user);
 
-		// when
-		List<TownResponse> townResponses = townRepository.findTownsByLimit();
-
-		// then
-		assertThat(townResponses)
-			.isNotNull()
-			.hasSize(10);
-	}
+		// 최근 조회한 도시
+		UserSearch userSearch1 = getUserSearch(savedTowns.get(3), user);
+		UserSearch userSearch2 = getUserSearch(savedTowns.get(4), user);
+		userSearchRepository.save(userSearch1);
+		userSearchRepository.save(userSearch2);
 
-	@Test
-	@DisplayName("# [3] 무작위 도시 10개 조회하기")
-	void findRandomTowns() {
-		// given
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(1L, Collections.emptyList(), 10);
+		TownFindDto townFindDto = TownFindDto.getTownFindDto(savedUser.getId(), List.of(savedTowns.get(4).getId()), 10);
 
 		// when
-		List<TownResponse> townResponses = townRepository.findRandomTowns(townFindDto);
+		List<TownResponse> recentSearchTowns = townRepository.findRecentSearchTowns(townFindDto);
 
 		// then
-		assertThat(townResponses)
+		assertThat(recentSearchTowns)
 			.isNotNull()
-			.hasSize(10);
+			.hasSize(1)
+			.element(0)
+			.hasFieldOrPropertyWithValue("name", savedTowns.get(3).getName())
+			.hasFieldOrPropertyWithValue("country", "대한민국");
 	}
 
 	@Test
-	@DisplayName("# [4] 여행중인 도시 조회하기")
-	void findTravelingTowns() {
+	@DisplayName("# [7] 최근에 등록된 도시 조회하기")
+	void findRecentInsertTowns() {
 		// given
-		User user = getUser();
-		User savedUser = userRepository.save(user);
+		List<Long> ids = savedTowns.stream()
+			.map(Town::getId)
+			.filter(id -> id <= savedTowns.get(4).getId())
+			.collect(Collectors.toList());
 
-		// 여행중인 도시
-		Trip trip = getTrip(savedTowns.get(0), user, LocalDateTime.now().minusDays(1),
-			LocalDateTime.now().plusDays(5));
-		tripRepository.save(trip);
+		TownFindDto townFindDto = TownFindDto.getTownFindDto(null, ids, 10);
 
 		// when
-		List<TownResponse> townResponses = townRepository.findTravelingTowns(savedUser.getId());
+		List<TownResponse> recentInsertTowns = townRepository.findRecentInsertTowns(townFindDto);
 
 		// then
-		assertThat(townResponses)
+		assertThat(recentInsertTowns)
 			.isNotNull()
+			.hasSize(5)
 			.element(0)
-			.hasFieldOrPropertyWithValue("name", savedTowns.get(0).getName())
+			.hasFieldOrPropertyWithValue("name", savedTowns.get(savedTowns.size() - 1).getName())
 			.hasFieldOrPropertyWithValue("country", "대한민국");
 	}
 
 	@Test
-	@DisplayName("# [5] 여행 예정인 도시 조회하기")
-	void findScheduledTowns() {
+	@DisplayName("# [8] 우선순위별 도시 목록 한 번에 조회하기")
+	void findFeedTowns() {
 		// given
 		User user = getUser();
 		User savedUser = userRepository.save(user);
 
-		Trip trip1 = getTrip(savedTowns.get(1), user, LocalDateTime.now().plusDays(5),
-			LocalDateTime.now().plusDays(10));
-		Trip trip2 = getTrip(savedTowns.get(2), user, LocalDateTime.now().plusDays(10),
-			LocalDateTime.now().plusDays(15));
-		tripRepository.save(trip1);
-		tripRepository.save(trip2);
+		// 여행중인 도시
+		tripRepository.save(getTrip(savedTowns.get(0), user, LocalDateTime.now().minusDays(1),
+			LocalDateTime.now().plusDays(5)));
+		// 여행 예정인 도시
+		tripRepository.save(getTrip(savedTowns.get(1), user, LocalDateTime.now().plusDays(5),
+			LocalDateTime.now().plusDays(10)));
+		tripRepository.save(getTrip(savedTowns.get(0), user, LocalDateTime.now().plusDays(10),
+			LocalDateTime.now().plusDays(15)));
 
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(savedUser.getId(), List.of(savedTowns.get(1).getId()), 10);
+		TownFindDto townFindDto = TownFindDto.getTownFindDto(savedUser.getId(), Collections.emptyList(), 3);
 
 		// when
-		List<TownResponse> scheduledTowns = townRepository.findScheduledTowns(townFindDto);
+		TownFeedDto townFeedDto = townRepository.findFeedTowns(townFindDto);
 
 		// then
-		assertThat(scheduledTowns)
-			.isNotNull()
-			.hasSize(1)
-			.element(0)
-			.hasFieldOrPropertyWithValue("name", savedTowns.get(2).getName())
-			.hasFieldOrPropertyWithValue("country", "대한민국");
+		assertThat(townFeedDto.getTravelingTowns())
+			.extracting(TownResponse::getName)
+			.containsExactly(savedTowns.get(0).getName());
+		assertThat(townFeedDto.getTowns())
+			.hasSize(3)
+			.doesNotHaveDuplicates()
+			.extracting(TownResponse::getName)
+			.startsWith(savedTowns.get(1).getName(), savedTowns.get(savedTowns.size() - 1).getName())
+			.doesNotContain(savedTowns.get(0).getName());
 	}
 
 	@Test
-	@DisplayName("# [6] 최근에 조회된 도시 조회하기")
-	void findRecentSearchTowns() {
+	@DisplayName("# [9] 키셋 방식으로 다음 페이지 도시 조회하기")
+	void findTownsAfter() {
 		// given
-		User user = getUser();
-		User savedUser = userRepository.save(user);
-
-		// 최근 조회한 도시
-		UserSearch userSearch1 = getUserSearch(savedTowns.get(3), user);
-		UserSearch userSearch2 = getUserSearch(savedTowns.get(4), user);
-		userSearchRepository.save(userSearch1);
-		userSearchRepository.save(userSearch2);
-
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(savedUser.getId(), List.of(savedTowns.get(4).getId()), 10);
+		Long after = savedTowns.get(2).getId();
+		TownPageRequest townPageRequest = TownPageRequest.builder()
+			.after(after)
+			.size(3)
+			.country("대한민국")
+			.build();
 
 		// when
-		List<TownResponse> recentSearchTowns = townRepository.findRecentSearchTowns(townFindDto);
+		List<TownResponse> townResponses = townRepository.findTownsAfter(townPageRequest);
 
 		// then
-		assertThat(recentSearchTowns)
-			.isNotNull()
-			.hasSize(1)
-			.element(0)
-			.hasFieldOrPropertyWithValue("name", savedTowns.get(3).getName())
-			.hasFieldOrPropertyWithValue("country", "대한민국");
+		assertThat(townResponses)
+			.hasSize(4)
+			.extracting("name")
+			.containsExactly("제주", "충북", "충남", "전주");
 	}
 
 	@Test
-	@DisplayName("# [7] 최근에 등록된 도시 조회하기")
-	void findRecentInsertTowns() {
+	@DisplayName("# [10] 최근 여행 등록 / 검색 기준 인기 도시 조회하기")
+	void findPopularTowns() {
 		// given
-		List<Long> ids = savedTowns.stream()
-			.map(Town::getId)
-			.filter(id -> id <= savedTowns.get(4).getId())
-			.collect(Collectors.toList());
-
-		TownFindDto townFindDto = TownFindDto.getTownFindDto(null, ids, 10);
+		User savedUser = userRepository.save(getUser());
+		tripRepository.save(getTrip(savedTowns.get(2), savedUser, LocalDateTime.now().plusDays(1),
+			LocalDateTime.now().plusDays(3)));
+		userSearchRepository.save(getUserSearch(savedTowns.get(0), savedUser));
+		userSearchRepository.save(getUserSearch(savedTowns.get(2), savedUser));
 
 		// when
-		List<TownResponse> recentInsertTowns = townRepository.findRecentInsertTowns(townFindDto);
+		List<TownResponse> townResponses = townRepository.findPopularTowns(LocalDateTime.now().minusDays(7), 10);
 
 		// then
-		assertThat(recentInsertTowns)
-			.isNotNull()
-			.hasSize(5)
-			.element(0)
-			.hasFieldOrPropertyWithValue("name", savedTowns.get(savedTowns.size() - 1).getName())
-			.hasFieldOrPropertyWithValue("country", "대한민국");
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(savedTowns.get(2).getId(), savedTowns.get(0).getId());
 	}
 
 	private User getUser() {
@@ -0,0 +1,104 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ AnonymousTownFeedTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, AnonymousTownFeed.class, RandomTownSampler.class})
+class AnonymousTownFeedTest {
+
+	private final AnonymousTownFeed anonymousTownFeed;
+
+	private final TownRepository townRepository;
+
+	private List<Town> savedTowns;
+
+	AnonymousTownFeedTest(
+		@Autowired AnonymousTownFeed anonymousTownFeed,
+		@Autowired TownRepository townRepository
+	) {
+		this.anonymousTownFeed = anonymousTownFeed;
+		this.townRepository = townRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		List<Town> towns = List.of("서울", "부산", "대구").stream()
+			.map(this::getTown)
+			.collect(Collectors.toList());
+		savedTowns = townRepository.saveAll(towns);
+		anonymousTownFeed.refresh();
+	}
+
+	@Test
+	@DisplayName("# [1] 미리 섞어둔 도시 목록 조회하기")
+	void getTowns() {
+		// given
+
+		// when
+		List<TownResponse> townResponses = anonymousTownFeed.getTowns(10);
+
+		// then
+		assertThat(townResponses)
+			.isNotNull()
+			.hasSize(savedTowns.size())
+			.doesNotHaveDuplicates();
+	}
+
+	@Test
+	@DisplayName("# [2] 삭제된 도시는 목록에서 제외하기")
+	void onTownRemoved() {
+		// given
+		Long removedId = savedTowns.get(0).getId();
+
+		// when
+		anonymousTownFeed.onTownChanged(TownChangedEvent.removed(removedId));
+		List<TownResponse> townResponses = anonymousTownFeed.getTowns(10);
+
+		// then
+		assertThat(townResponses)
+			.hasSize(savedTowns.size() - 1)
+			.extracting(TownResponse::getId)
+			.doesNotContain(removedId);
+	}
+
+	@Test
+	@DisplayName("# [3] 목록이 비어 있으면 DB 를 조회하지 않고 빈 목록 반환하기")
+	void getTownsWhenEmpty() {
+		// given
+		savedTowns.forEach(town -> anonymousTownFeed.onTownChanged(TownChangedEvent.removed(town.getId())));
+
+		// when
+		List<TownResponse> townResponses = anonymousTownFeed.getTowns(10);
+
+		// then
+		assertThat(townResponses).isEmpty();
+	}
+
+	private Town getTown(String name) {
+		return Town.builder()
+			.name(name)
+			.country("대한민국")
+			.build();
+	}
+}
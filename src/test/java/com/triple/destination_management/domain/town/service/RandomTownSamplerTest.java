@@ -0,0 +1,113 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ RandomTownSamplerTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, RandomTownSampler.class})
+class RandomTownSamplerTest {
+
+	private final TownRepository townRepository;
+
+	private final RandomTownSampler randomTownSampler;
+
+	RandomTownSamplerTest(
+		@Autowired TownRepository townRepository,
+		@Autowired RandomTownSampler randomTownSampler
+	) {
+		this.townRepository = townRepository;
+		this.randomTownSampler = randomTownSampler;
+	}
+
+	private final List<Town> towns = new ArrayList<>();
+
+	private List<Town> savedTowns;
+
+	@BeforeEach
+	public void init() {
+		List<String> names = List.of("대구", "대전", "부산", "제주", "충북", "충남", "전주", "포항", "경기", "전남");
+		for (String name : names) {
+			towns.add(getTown(name));
+		}
+		savedTowns = townRepository.saveAll(towns);
+		randomTownSampler.reload();
+	}
+
+	@Test
+	@DisplayName("# [1] 무작위 도시 10개 조회하기")
+	void findRandomTowns() {
+		// given
+
+		// when
+		List<TownResponse> townResponses = randomTownSampler.findRandomTowns(10, Collections.emptyList());
+
+		// then
+		assertThat(townResponses)
+			.isNotNull()
+			.hasSize(10);
+	}
+
+	@Test
+	@DisplayName("# [2] 제외할 도시를 뺀 무작위 도시 조회하기")
+	void findRandomTownsWithExcludes() {
+		// given
+		List<Long> excludeIds = savedTowns.subList(0, 5).stream().map(Town::getId).collect(Collectors.toList());
+
+		// when
+		List<TownResponse> townResponses = randomTownSampler.findRandomTowns(10, excludeIds);
+
+		// then
+		assertThat(townResponses)
+			.isNotNull()
+			.hasSize(5)
+			.doesNotHaveDuplicates()
+			.extracting(TownResponse::getId)
+			.doesNotContainAnyElementsOf(excludeIds);
+	}
+
+	@Test
+	@DisplayName("# [3] 이벤트 없이 등록된 도시도 다시 적재 후 무작위 도시로 조회하기")
+	void findRandomTownsAfterReload() {
+		// given
+		List<Long> excludeIds = savedTowns.stream().map(Town::getId).collect(Collectors.toList());
+		randomTownSampler.findRandomTowns(10, excludeIds);
+		Town savedTown = townRepository.save(getTown("서울"));
+
+		// when
+		randomTownSampler.reload();
+		List<TownResponse> townResponses = randomTownSampler.findRandomTowns(10, excludeIds);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(savedTown.getId());
+	}
+
+	private Town getTown(String name) {
+		return Town.builder()
+			.name(name)
+			.country("대한민국")
+			.build();
+	}
+}
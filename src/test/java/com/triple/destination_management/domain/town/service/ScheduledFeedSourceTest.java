@@ -0,0 +1,120 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.trip.entity.Trip;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
+import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.entity.User;
+import com.triple.destination_management.domain.user.repository.UserRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ ScheduledFeedSourceTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, ScheduledFeedSource.class, TripIntervalIndex.class, TownCatalog.class})
+class ScheduledFeedSourceTest {
+
+	private final ScheduledFeedSource scheduledFeedSource;
+
+	private final TripRepository tripRepository;
+
+	private final TownRepository townRepository;
+
+	private final UserRepository userRepository;
+
+	private User savedUser;
+
+	private Town seoul;
+
+	private Town busan;
+
+	private Town daegu;
+
+	ScheduledFeedSourceTest(
+		@Autowired ScheduledFeedSource scheduledFeedSource,
+		@Autowired TripRepository tripRepository,
+		@Autowired TownRepository townRepository,
+		@Autowired UserRepository userRepository
+	) {
+		this.scheduledFeedSource = scheduledFeedSource;
+		this.tripRepository = tripRepository;
+		this.townRepository = townRepository;
+		this.userRepository = userRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		savedUser = userRepository.save(
+			User.builder().username("gyul").password("1234").name("김규남").role(Auth.ROLE_USER).build());
+		seoul = townRepository.save(Town.builder().name("서울").country("대한민국").build());
+		busan = townRepository.save(Town.builder().name("부산").country("대한민국").build());
+		daegu = townRepository.save(Town.builder().name("대구").country("대한민국").build());
+
+		saveTrip(busan, 20, 25);
+		saveTrip(seoul, 10, 15);
+		saveTrip(busan, 5, 7);
+		saveTrip(daegu, 30, 35);
+		saveTrip(daegu, -1, 1); // 여행중
+	}
+
+	@Test
+	@DisplayName("# [1] 여행 예정인 도시를 먼저 등록한 여행 순으로 중복 없이 조회하기")
+	void findScheduledTowns() {
+		// given
+
+		// when
+		List<TownResponse> townResponses = scheduledFeedSource.find(savedUser.getId(), List.of(), 10);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(busan.getId(), seoul.getId(), daegu.getId());
+	}
+
+	@Test
+	@DisplayName("# [2] 제외할 도시를 빼고 최대 size 개만 조회하기")
+	void findScheduledTownsWithExcludesAndSize() {
+		// given
+		List<Long> excludeIds = List.of(busan.getId());
+
+		// when
+		List<TownResponse> townResponses = scheduledFeedSource.find(savedUser.getId(), excludeIds, 1);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(seoul.getId());
+	}
+
+	private void saveTrip(
+		Town town,
+		int startDay,
+		int endDay
+	) {
+		LocalDateTime now = LocalDateTime.now();
+		tripRepository.save(Trip.builder()
+			.user(savedUser)
+			.town(town)
+			.startDate(now.plusDays(startDay))
+			.endDate(now.plusDays(endDay))
+			.build());
+	}
+}
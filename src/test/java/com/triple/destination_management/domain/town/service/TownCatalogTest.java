@@ -0,0 +1,114 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TownCatalogTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "town.catalog.enabled=true")
+@Import({JpaConfig.class, TownCatalog.class})
+class TownCatalogTest {
+
+	private final TownCatalog townCatalog;
+
+	private final TownRepository townRepository;
+
+	private List<Town> savedTowns;
+
+	TownCatalogTest(
+		@Autowired TownCatalog townCatalog,
+		@Autowired TownRepository townRepository
+	) {
+		this.townCatalog = townCatalog;
+		this.townRepository = townRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		List<Town> towns = List.of("서울", "부산", "대구").stream()
+			.map(this::getTown)
+			.collect(Collectors.toList());
+		savedTowns = townRepository.saveAllAndFlush(towns);
+	}
+
+	@Test
+	@DisplayName("# [1] 아이디 / 코드로 도시 조회하기")
+	void findTown() {
+		// given
+		Town town = savedTowns.get(0);
+
+		// when & then
+		assertThat(townCatalog.findTown(town.getId()))
+			.isPresent()
+			.get()
+			.hasFieldOrPropertyWithValue("name", town.getName());
+		assertThat(townCatalog.containsCode(town.getCode())).isTrue();
+		assertThat(townCatalog.findTownReference(town.getId()))
+			.isPresent()
+			.get()
+			.hasFieldOrPropertyWithValue("id", town.getId());
+	}
+
+	@Test
+	@DisplayName("# [2] 도시 등록 / 삭제 시 스냅샷 교체하기")
+	void onTownChanged() {
+		// given
+		townCatalog.findTown(savedTowns.get(0).getId());
+		Town registeredTown = townRepository.saveAndFlush(getTown("제주"));
+		Town removedTown = savedTowns.get(1);
+		townRepository.delete(removedTown);
+		townRepository.flush();
+
+		// when
+		townCatalog.onTownChanged(TownChangedEvent.registered(registeredTown.getId()));
+		townCatalog.onTownChanged(TownChangedEvent.removed(removedTown.getId()));
+
+		// then
+		assertThat(townCatalog.findTown(registeredTown.getId())).isPresent();
+		assertThat(townCatalog.containsCode(registeredTown.getCode())).isTrue();
+		assertThat(townCatalog.findTown(removedTown.getId())).isEmpty();
+		assertThat(townCatalog.containsCode(removedTown.getCode())).isFalse();
+	}
+
+	@Test
+	@DisplayName("# [3] 이벤트 없이 바뀐 도시를 주기적 재적재로 반영하기")
+	void refresh() {
+		// given
+		townCatalog.findTown(savedTowns.get(0).getId());
+		Town registeredTown = townRepository.saveAndFlush(getTown("광주"));
+
+		// when
+		townCatalog.refresh();
+
+		// then
+		assertThat(townCatalog.findTown(registeredTown.getId())).isPresent();
+		assertThat(townCatalog.containsCode(registeredTown.getCode())).isTrue();
+	}
+
+	private Town getTown(String name) {
+		return Town.builder()
+			.name(name)
+			.country("대한민국")
+			.code(name.hashCode())
+			.build();
+	}
+}
@@ -0,0 +1,77 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TownExportServiceTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, JacksonAutoConfiguration.class, TownExportService.class})
+class TownExportServiceTest {
+
+	private final TownExportService townExportService;
+
+	private final TownRepository townRepository;
+
+	private final ObjectMapper objectMapper;
+
+	TownExportServiceTest(
+		@Autowired TownExportService townExportService,
+		@Autowired TownRepository townRepository,
+		@Autowired ObjectMapper objectMapper
+	) {
+		this.townExportService = townExportService;
+		this.townRepository = townRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@Test
+	@DisplayName("# [1-1] 전체 도시 NDJSON 으로 내보내기")
+	void exportTowns() throws IOException {
+		// given
+		Town seoul = townRepository.save(getTown("서울"));
+		Town busan = townRepository.save(getTown("부산"));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		townExportService.exportTowns(outputStream);
+
+		// then
+		List<TownResponse> townResponses = new ArrayList<>();
+		for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+			townResponses.add(objectMapper.readValue(line, TownResponse.class));
+		}
+
+		assertThat(townResponses)
+			.extracting("id", "name")
+			.containsSubsequence(tuple(seoul.getId(), "서울"), tuple(busan.getId(), "부산"));
+	}
+
+	private Town getTown(String name) {
+		return Town.builder()
+			.name(name)
+			.country("대한민국")
+			.build();
+	}
+}
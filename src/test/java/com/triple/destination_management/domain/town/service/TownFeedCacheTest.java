@@ -0,0 +1,104 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.event.TownFeedEvictEvent;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TownFeedCacheTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, TownFeedCache.class, TripIntervalIndex.class})
+class TownFeedCacheTest {
+
+	private final TownFeedCache townFeedCache;
+
+	TownFeedCacheTest(@Autowired TownFeedCache townFeedCache) {
+		this.townFeedCache = townFeedCache;
+	}
+
+	@Test
+	@DisplayName("# [1] 사용자별 도시 목록 캐시 저장 / 조회하기")
+	void putAndGet() {
+		// given
+		List<TownResponse> townResponses = List.of(getTownResponse(1L, "서울"), getTownResponse(2L, "부산"));
+
+		// when
+		townFeedCache.put(1L, townResponses, townFeedCache.getVersion());
+
+		// then
+		assertThat(townFeedCache.get(1L))
+			.isPresent()
+			.hasValue(townResponses);
+	}
+
+	@Test
+	@DisplayName("# [2] 조회 도중 무효화된 목록은 저장하지 않기")
+	void putStaleFeed() {
+		// given
+		long version = townFeedCache.getVersion();
+		townFeedCache.evict(TownFeedEvictEvent.ofUser(1L));
+
+		// when
+		townFeedCache.put(1L, List.of(getTownResponse(1L, "서울")), version);
+
+		// then
+		assertThat(townFeedCache.get(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [3] 사용자 / 도시 기준으로 캐시 무효화하기")
+	void evict() {
+		// given
+		townFeedCache.put(1L, List.of(getTownResponse(1L, "서울")), townFeedCache.getVersion());
+		townFeedCache.put(2L, List.of(getTownResponse(2L, "부산")), townFeedCache.getVersion());
+		townFeedCache.put(3L, List.of(getTownResponse(3L, "대구")), townFeedCache.getVersion());
+
+		// when
+		townFeedCache.evict(TownFeedEvictEvent.ofUser(1L));
+		townFeedCache.evict(TownFeedEvictEvent.ofTown(2L));
+
+		// then
+		assertThat(townFeedCache.get(1L)).isEmpty();
+		assertThat(townFeedCache.get(2L)).isEmpty();
+		assertThat(townFeedCache.get(3L)).isPresent();
+	}
+
+	@Test
+	@DisplayName("# [4] 다른 사용자의 무효화는 조회 중인 목록 저장을 막지 않기")
+	void putWhileOtherUserEvicted() {
+		// given
+		long version = townFeedCache.getVersion();
+		townFeedCache.evict(TownFeedEvictEvent.ofUser(2L));
+
+		// when
+		townFeedCache.put(1L, List.of(getTownResponse(1L, "서울")), version);
+
+		// then
+		assertThat(townFeedCache.get(1L)).isPresent();
+	}
+
+	private TownResponse getTownResponse(
+		Long id,
+		String name
+	) {
+		return TownResponse.builder()
+			.id(id)
+			.name(name)
+			.country("대한민국")
+			.build();
+	}
+}
@@ -0,0 +1,181 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@DisplayName("** [ TownFeedComposerTest ] **")
+class TownFeedComposerTest {
+
+	private final TownFeedComposer townFeedComposer = new TownFeedComposer(
+		List.of(
+			new StubFeedSource("traveling", true, true, false, List.of(1L, 1L)),
+			new StubFeedSource("scheduled", false, true, true, List.of(2L, 3L)),
+			new StubFeedSource("popular", true, true, true, List.of(1L, 3L, 4L, 5L, 6L)),
+			new StubFeedSource("random", false, false, true, List.of(7L, 8L, 9L))
+		),
+		3,
+		List.of("traveling:-1", "scheduled", "popular:1", "random"),
+		2,
+		false
+	);
+
+	@AfterEach
+	public void shutdown() {
+		townFeedComposer.shutdown();
+	}
+
+	@Test
+	@DisplayName("# [1] 우선순위 순으로 소스별 최대 개수만큼 합치기")
+	void compose() {
+		// given
+
+		// when
+		List<TownResponse> townResponses = townFeedComposer.compose(1L);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("# [2] 목록이 이미 가득 차면 다음 소스는 건너뛰기")
+	void composeWithFullFeed() {
+		// given
+		TownFeedComposer composer = new TownFeedComposer(
+			List.of(
+				new StubFeedSource("scheduled", false, true, true, List.of(2L, 3L, 4L)),
+				new StubFeedSource("random", false, false, true, List.of(7L))
+			),
+			3,
+			List.of("scheduled", "random"),
+			1,
+			false
+		);
+
+		// when
+		List<TownResponse> townResponses = composer.compose(1L);
+		composer.shutdown();
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("# [3] 앞선 소스와 겹치는 만큼 더 조회해 동시에 조합하기")
+	void composeWithFanOut() {
+		// given
+		StubFeedSource scheduled = new StubFeedSource("scheduled", false, true, true, List.of(1L, 2L, 3L, 4L));
+		StubFeedSource recentSearch = new StubFeedSource("recent-search", false, true, true, List.of(2L, 5L, 6L));
+		TownFeedComposer composer = new TownFeedComposer(
+			List.of(new StubFeedSource("traveling", true, true, false, List.of(1L)), scheduled, recentSearch),
+			3,
+			List.of("traveling:-1", "scheduled:1", "recent-search"),
+			2,
+			true
+		);
+
+		// when
+		List<TownResponse> townResponses = composer.compose(1L);
+		composer.shutdown();
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(1L, 2L, 5L, 6L);
+		assertThat(scheduled.getExcludeIds()).isEmpty();
+		assertThat(recentSearch.getExcludeIds()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [4] 한 번에 조회한 여행중 도시는 도시 수에 포함하지 않고 합치기")
+	void composeWithUncountedTowns() {
+		// given
+		FeedSource combined = new StubFeedSource("combined", false, false, true, List.of(3L)) {
+			@Override
+			public Candidates findCandidates(
+				Long userId,
+				Collection<Long> excludeIds,
+				int size
+			) {
+				return new Candidates(toTownResponses(List.of(1L, 2L)), find(userId, excludeIds, size));
+			}
+		};
+		TownFeedComposer composer = new TownFeedComposer(
+			List.of(combined, new StubFeedSource("random", false, false, true, List.of(7L, 8L, 9L))),
+			4,
+			List.of("combined", "random"),
+			1,
+			false
+		);
+
+		// when
+		List<TownResponse> townResponses = composer.compose(1L);
+		composer.shutdown();
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(1L, 2L, 3L, 7L, 8L, 9L);
+	}
+
+	private static List<TownResponse> toTownResponses(List<Long> townIds) {
+		return townIds.stream()
+			.map(townId -> TownResponse.builder().id(townId).name("도시" + townId).build())
+			.collect(Collectors.toList());
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class StubFeedSource implements FeedSource {
+
+		private final String name;
+
+		private final boolean independent;
+
+		private final boolean prefetchable;
+
+		private final boolean counted;
+
+		private final List<Long> townIds;
+
+		private volatile Collection<Long> excludeIds; // 마지막으로 전달된 제외 도시
+
+		private StubFeedSource(
+			String name,
+			boolean independent,
+			boolean prefetchable,
+			boolean counted,
+			List<Long> townIds
+		) {
+			this(name, independent, prefetchable, counted, townIds, null);
+		}
+
+		@Override
+		public List<TownResponse> find(
+			Long userId,
+			Collection<Long> excludeIds,
+			int size
+		) {
+			this.excludeIds = List.copyOf(excludeIds);
+			return toTownResponses(townIds.stream()
+				.filter(townId -> !excludeIds.contains(townId))
+				.limit(size)
+				.collect(Collectors.toList()));
+		}
+	}
+}
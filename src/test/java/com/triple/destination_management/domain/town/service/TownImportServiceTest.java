@@ -0,0 +1,150 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.triple.destination_management.domain.town.dto.TownImportResponse;
+import com.triple.destination_management.domain.town.dto.TownRequest;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+import com.triple.destination_management.global.constants.ResponseCode;
+import com.triple.destination_management.global.exception.GeneralException;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TownImportServiceTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@RecordApplicationEvents
+@Import({JpaConfig.class, JacksonAutoConfiguration.class, TownImportService.class})
+class TownImportServiceTest {
+
+	private final TownImportService townImportService;
+
+	private final TownRepository townRepository;
+
+	private final ApplicationEvents applicationEvents;
+
+	TownImportServiceTest(
+		@Autowired TownImportService townImportService,
+		@Autowired TownRepository townRepository,
+		@Autowired ApplicationEvents applicationEvents
+	) {
+		this.townImportService = townImportService;
+		this.townRepository = townRepository;
+		this.applicationEvents = applicationEvents;
+	}
+
+	@Test
+	@DisplayName("# [1-1] NDJSON 으로 도시 가져오기")
+	void importTownsFromNdjson() {
+		// given
+		townRepository.save(getTown("서울", "대한민국"));
+
+		String body = "{\"name\":\"서울\",\"country\":\"대한민국\"}\n"
+			+ "{\"name\":\"부산\",\"country\":\"대한민국\"}\n"
+			+ "{\"name\":\"부산\",\"country\":\"대한민국\"}\n"
+			+ "{\"name\":\"도쿄\",\"area\":\"간토\",\"country\":\"일본\"}\n"
+			+ "{\"name\":\"\",\"country\":\"일본\"}\n";
+
+		// when
+		TownImportResponse townImportResponse =
+			townImportService.importTowns(getInputStream(body), TownImportService.APPLICATION_NDJSON);
+
+		// then
+		assertThat(townImportResponse)
+			.hasFieldOrPropertyWithValue("imported", 2L)
+			.hasFieldOrPropertyWithValue("duplicated", 2L)
+			.hasFieldOrPropertyWithValue("invalid", 1L);
+		assertThat(townRepository.findTownByCode(getCode("도쿄", "간토", "일본"))).isPresent();
+	}
+
+	@Test
+	@DisplayName("# [1-2] CSV 로 도시 가져오기")
+	void importTownsFromCsv() {
+		// given
+		String body = "country,area,name\n"
+			+ "대한민국,,대구\n"
+			+ "일본,간사이,오사카\n";
+
+		// when
+		TownImportResponse townImportResponse =
+			townImportService.importTowns(getInputStream(body), TownImportService.TEXT_CSV);
+
+		// then
+		assertThat(townImportResponse)
+			.hasFieldOrPropertyWithValue("imported", 2L)
+			.hasFieldOrPropertyWithValue("duplicated", 0L);
+		assertThat(townRepository.findTownByCode(getCode("대구", null, "대한민국"))).isPresent();
+	}
+
+	@Test
+	@DisplayName("# [1-3] 잘못된 형식의 본문 가져오기")
+	void importTownsWithMalformedBody() {
+		// given
+		String body = "{\"name\":\"부산\",\"country\":";
+
+		// when
+		Throwable thrown = catchThrowable(
+			() -> townImportService.importTowns(getInputStream(body), TownImportService.APPLICATION_NDJSON));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("responseCode", ResponseCode.BAD_REQUEST);
+	}
+
+	@Test
+	@DisplayName("# [1-4] 여러 청크로 나눠 가져와도 도시 변경 이벤트는 한 번만 발행하기")
+	void importTownsPublishesOnce() {
+		// given
+		StringBuilder body = new StringBuilder("country,area,name\n");
+		for (int i = 0; i < 2500; i++) {
+			body.append("대한민국,,도시").append(i).append('\n');
+		}
+
+		// when
+		TownImportResponse townImportResponse =
+			townImportService.importTowns(getInputStream(body.toString()), TownImportService.TEXT_CSV);
+
+		// then
+		assertThat(townImportResponse).hasFieldOrPropertyWithValue("imported", 2500L);
+		assertThat(applicationEvents.stream(TownChangedEvent.class))
+			.singleElement()
+			.hasFieldOrPropertyWithValue("changeType", TownChangedEvent.ChangeType.IMPORT);
+	}
+
+	private InputStream getInputStream(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Integer getCode(
+		String name,
+		String area,
+		String country
+	) {
+		return TownRequest.getHashCode(new TownRequest(country, area, name));
+	}
+
+	private Town getTown(
+		String name,
+		String country
+	) {
+		return TownRequest.dtoToEntity(TownRequest.builder().name(name).country(country).build());
+	}
+}
@@ -25,6 +25,7 @@ import com.triple.destination_management.domain.town.dto.TownResponse;
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.trip.entity.Trip;
 import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
 import com.triple.destination_management.global.config.JpaConfig;
 import com.triple.destination_management.global.constants.ResponseCode;
 import com.triple.destination_management.global.exception.GeneralException;
@@ -33,7 +34,12 @@ import com.triple.destination_management.global.exception.GeneralException;
 @DataJpaTest
 @DisplayName("** [ TownServiceSortTest ] **")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({JpaConfig.class, TownService.class})
+@Import({
+	JpaConfig.class, TownService.class, TownFeedCache.class, TripIntervalIndex.class,
+	AnonymousTownFeed.class, TownSuggester.class, PopularTownRanking.class, TownFeedComposer.class,
+	TravelingFeedSource.class, ScheduledFeedSource.class, RecentInsertFeedSource.class, RecentSearchFeedSource.class,
+	PopularFeedSource.class, RandomFeedSource.class, RandomTownSampler.class, TownCatalog.class
+})
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class TownServiceSortTest {
 
@@ -2,6 +2,8 @@ package com.triple.destination_management.domain.town.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,12 +12,15 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.triple.destination_management.domain.town.dto.TownPageRequest;
+import com.triple.destination_management.domain.town.dto.TownPageResponse;
 import com.triple.destination_management.domain.town.dto.TownRequest;
 import com.triple.destination_management.domain.town.dto.TownResponse;
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.town.repository.TownRepository;
 import com.triple.destination_management.domain.trip.entity.Trip;
 import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
 import com.triple.destination_management.global.config.JpaConfig;
 import com.triple.destination_management.global.constants.ResponseCode;
 import com.triple.destination_management.global.exception.GeneralException;
@@ -24,7 +29,12 @@ import com.triple.destination_management.global.exception.GeneralException;
 @DataJpaTest
 @DisplayName("** [ TownServiceTest ] **")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({JpaConfig.class, TownService.class})
+@Import({
+	JpaConfig.class, TownService.class, TownFeedCache.class, TripIntervalIndex.class,
+	AnonymousTownFeed.class, TownSuggester.class, PopularTownRanking.class, TownFeedComposer.class,
+	TravelingFeedSource.class, ScheduledFeedSource.class, RecentInsertFeedSource.class, RecentSearchFeedSource.class,
+	PopularFeedSource.class, RandomFeedSource.class, RandomTownSampler.class, TownCatalog.class
+})
 class TownServiceTest {
 
 	private final TownService townService;
@@ -74,6 +84,46 @@ class TownServiceTest {
 			.hasMessageContaining(ResponseCode.DUPLICATED_REQUEST.getMessage());
 	}
 
+	@Test
+	@DisplayName("# [1-3] 도시 일괄 등록하기")
+	void registerTowns() {
+		// given
+		List<TownRequest> saveRequests = List.of(
+			getTownRequest("서울", "대한민국"),
+			getTownRequest("부산", "대한민국"),
+			getTownRequest("도쿄", "일본")
+		);
+
+		// when
+		List<TownResponse> townResponses = townService.registerTowns(saveRequests);
+
+		// then
+		assertThat(townResponses)
+			.hasSize(3)
+			.extracting("name")
+			.containsExactly("서울", "부산", "도쿄");
+	}
+
+	@Test
+	@DisplayName("# [1-4] 이미 등록된 도시를 포함해 일괄 등록")
+	void registerDuplicateTowns() {
+		// given
+		townService.registerTown(getTownRequest("서울", "대한민국"));
+
+		List<TownRequest> saveRequests = List.of(
+			getTownRequest("부산", "대한민국"),
+			getTownRequest("서울", "대한민국")
+		);
+
+		// when
+		Throwable thrown = catchThrowable(() -> townService.registerTowns(saveRequests));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasMessageContaining(ResponseCode.DUPLICATED_REQUEST.getMessage());
+	}
+
 	@Test
 	@DisplayName("# [2-1] 도시 수정하기")
 	void modifyTown() {
@@ -196,6 +246,37 @@ class TownServiceTest {
 			.hasMessageContaining(ResponseCode.NOT_FOUND.getMessage());
 	}
 
+	@Test
+	@DisplayName("# [5-1] 도시 목록 페이지 이어서 조회하기")
+	void findTownPage() {
+		// given
+		List<String> names = List.of("대구", "대전", "부산", "제주", "충북");
+		for (String name : names) {
+			townService.registerTown(getTownRequest(name, "페이지국"));
+		}
+		TownPageRequest firstRequest = TownPageRequest.builder().size(3).country("페이지국").build();
+
+		// when
+		TownPageResponse firstPage = townService.findTownPage(firstRequest);
+		TownPageRequest nextRequest = TownPageRequest.builder()
+			.after(firstPage.getNextCursor())
+			.size(3)
+			.country("페이지국")
+			.build();
+		TownPageResponse nextPage = townService.findTownPage(nextRequest);
+
+		// then
+		assertThat(firstPage.isHasNext()).isTrue();
+		assertThat(firstPage.getTowns())
+			.extracting("name")
+			.containsExactly("대구", "대전", "부산");
+		assertThat(nextPage.isHasNext()).isFalse();
+		assertThat(nextPage.getNextCursor()).isNull();
+		assertThat(nextPage.getTowns())
+			.extracting("name")
+			.containsExactly("제주", "충북");
+	}
+
 	private Trip getTrip(Long townId) {
 		return Trip.builder()
 			.town(Town.builder().id(townId).build())
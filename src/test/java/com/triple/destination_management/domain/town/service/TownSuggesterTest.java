@@ -0,0 +1,127 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.event.TownChangedEvent;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TownSuggesterTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, TownSuggester.class})
+class TownSuggesterTest {
+
+	private final TownSuggester townSuggester;
+
+	private final TownRepository townRepository;
+
+	private Town seoul;
+
+	TownSuggesterTest(
+		@Autowired TownSuggester townSuggester,
+		@Autowired TownRepository townRepository
+	) {
+		this.townSuggester = townSuggester;
+		this.townRepository = townRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		seoul = townRepository.save(getTown("서울", "대한민국"));
+		townRepository.save(getTown("서귀포", "대한민국"));
+		townRepository.save(getTown("New York", "USA"));
+		townSuggester.reload();
+	}
+
+	@Test
+	@DisplayName("# [1] 도시명 접두어로 자동완성")
+	void suggestByPrefix() {
+		// given
+
+		// when
+		List<TownResponse> townResponses = townSuggester.suggest("서", 10);
+
+		// then
+		assertThat(townResponses)
+			.extracting("name")
+			.containsExactlyInAnyOrder("서울", "서귀포");
+	}
+
+	@Test
+	@DisplayName("# [2] 입력 중인 음절 / 초성으로 자동완성")
+	void suggestByJamo() {
+		// given
+
+		// when
+		List<TownResponse> typingResponses = townSuggester.suggest("성", 10); // 서울 입력 중 (ㅅㅓㅇ)
+		List<TownResponse> choseongResponses = townSuggester.suggest("ㅅㄱ", 10);
+
+		// then
+		assertThat(typingResponses)
+			.extracting("name")
+			.containsExactly("서울");
+		assertThat(choseongResponses)
+			.extracting("name")
+			.containsExactly("서귀포");
+	}
+
+	@Test
+	@DisplayName("# [3] 국가 / 단어 단위 자동완성")
+	void suggestByCountryAndWord() {
+		// given
+
+		// when
+		List<TownResponse> countryResponses = townSuggester.suggest("usa", 10);
+		List<TownResponse> wordResponses = townSuggester.suggest("yor", 10);
+
+		// then
+		assertThat(countryResponses)
+			.extracting("name")
+			.containsExactly("New York");
+		assertThat(wordResponses)
+			.extracting("name")
+			.containsExactly("New York");
+	}
+
+	@Test
+	@DisplayName("# [4] 수정 / 삭제된 도시 색인에 반영하기")
+	void onTownChanged() {
+		// given
+		Town busan = townRepository.save(getTown("부산", "대한민국"));
+		townSuggester.onTownChanged(TownChangedEvent.registered(busan.getId()));
+
+		// when
+		townSuggester.onTownChanged(TownChangedEvent.removed(seoul.getId()));
+
+		// then
+		assertThat(townSuggester.suggest("ㅂ", 10))
+			.extracting("name")
+			.containsExactly("부산");
+		assertThat(townSuggester.suggest("서울", 10)).isEmpty();
+	}
+
+	private Town getTown(
+		String name,
+		String country
+	) {
+		return Town.builder()
+			.name(name)
+			.country(country)
+			.build();
+	}
+}
@@ -0,0 +1,126 @@
+package com.triple.destination_management.domain.town.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.triple.destination_management.domain.town.dto.TownResponse;
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+import com.triple.destination_management.domain.trip.entity.Trip;
+import com.triple.destination_management.domain.trip.event.TripChangedEvent;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.domain.trip.service.TripIntervalIndex;
+import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.entity.User;
+import com.triple.destination_management.domain.user.repository.UserRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TravelingFeedSourceTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, TravelingFeedSource.class, TripIntervalIndex.class, TownCatalog.class})
+class TravelingFeedSourceTest {
+
+	private final TravelingFeedSource travelingFeedSource;
+
+	private final TripIntervalIndex tripIntervalIndex;
+
+	private final TripRepository tripRepository;
+
+	private final TownRepository townRepository;
+
+	private final UserRepository userRepository;
+
+	private User savedUser;
+
+	private Town seoul;
+
+	private Town busan;
+
+	TravelingFeedSourceTest(
+		@Autowired TravelingFeedSource travelingFeedSource,
+		@Autowired TripIntervalIndex tripIntervalIndex,
+		@Autowired TripRepository tripRepository,
+		@Autowired TownRepository townRepository,
+		@Autowired UserRepository userRepository
+	) {
+		this.travelingFeedSource = travelingFeedSource;
+		this.tripIntervalIndex = tripIntervalIndex;
+		this.tripRepository = tripRepository;
+		this.townRepository = townRepository;
+		this.userRepository = userRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		savedUser = userRepository.save(
+			User.builder().username("gyul").password("1234").name("김규남").role(Auth.ROLE_USER).build());
+		seoul = townRepository.save(Town.builder().name("서울").country("대한민국").build());
+		busan = townRepository.save(Town.builder().name("부산").country("대한민국").build());
+	}
+
+	@Test
+	@DisplayName("# [1] 여행중인 도시를 먼저 등록한 여행 순으로 중복 없이 조회하기")
+	void findTravelingTowns() {
+		// given
+		saveTrip(busan, -10, 10);
+		saveTrip(seoul, -1, 1);
+		saveTrip(busan, -5, 5);
+		saveTrip(seoul, 3, 5); // 여행 예정
+
+		// when
+		List<TownResponse> townResponses = travelingFeedSource.find(savedUser.getId(), List.of(), 10);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(busan.getId(), seoul.getId());
+	}
+
+	@Test
+	@DisplayName("# [2] 등록 / 삭제된 여행을 색인에 바로 반영하기")
+	void findTravelingTownsAfterTripChanged() {
+		// given
+		Trip busanTrip = saveTrip(busan, -10, 10);
+		travelingFeedSource.find(savedUser.getId(), List.of(), 10);
+
+		// when
+		Trip seoulTrip = saveTrip(seoul, -1, 1);
+		tripIntervalIndex.apply(TripChangedEvent.saved(savedUser.getId(), List.of(TripInterval.entityToDto(seoulTrip))));
+		tripRepository.delete(busanTrip);
+		tripIntervalIndex.apply(TripChangedEvent.removed(savedUser.getId(), busanTrip.getId()));
+		List<TownResponse> townResponses = travelingFeedSource.find(savedUser.getId(), List.of(), 10);
+
+		// then
+		assertThat(townResponses)
+			.extracting(TownResponse::getId)
+			.containsExactly(seoul.getId());
+	}
+
+	private Trip saveTrip(
+		Town town,
+		int startDay,
+		int endDay
+	) {
+		LocalDateTime now = LocalDateTime.now();
+		return tripRepository.save(Trip.builder()
+			.user(savedUser)
+			.town(town)
+			.startDate(now.plusDays(startDay))
+			.endDate(now.plusDays(endDay))
+			.build());
+	}
+}
@@ -521,6 +521,38 @@ class TripControllerTest {
 		then(tripService).should(never()).findTrip(tripId, userId);
 	}
 
+	@Test
+	@DisplayName("# [5-1]-[GET] 조회 개수를 비워서 여행 목록 조회하기")
+	void findTripsWithEmptySize() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/trips")
+			.param("status", "upcoming")
+			.param("size", "")
+			.contentType(MediaType.APPLICATION_JSON)
+			.header(JwtProperties.JWT_ACCESS_HEADER, JwtProperties.TOKEN_PREFIX + token))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(tripService).should(never()).findTrips(any(), any());
+	}
+
+	@Test
+	@DisplayName("# [5-2]-[GET] 존재하지 않는 날짜의 커서로 여행 목록 조회하기")
+	void findTripsWithWrongCursor() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/trips")
+			.param("status", "upcoming")
+			.param("cursor", "2026-99-99T00:00_1")
+			.contentType(MediaType.APPLICATION_JSON)
+			.header(JwtProperties.JWT_ACCESS_HEADER, JwtProperties.TOKEN_PREFIX + token))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(tripService).should(never()).findTrips(any(), any());
+	}
+
 	private TripResponse getTripResponse(
 		LocalDateTime startDate,
 		LocalDateTime endDate,
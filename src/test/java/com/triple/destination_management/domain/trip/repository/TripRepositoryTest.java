@@ -2,6 +2,11 @@ package com.triple.destination_management.domain.trip.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +17,8 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.trip.dto.TripPageRequest;
+import com.triple.destination_management.domain.trip.dto.TripResponse;
 import com.triple.destination_management.domain.trip.entity.Trip;
 import com.triple.destination_management.domain.user.constants.Auth;
 import com.triple.destination_management.domain.user.entity.User;
@@ -61,6 +68,31 @@ class TripRepositoryTest {
 			.hasFieldOrPropertyWithValue("town", savedTown);
 	}
 
+	@Test
+	@DisplayName("# [2] 다른 사용자의 여행은 조회 / 삭제되지 않기")
+	void findAndDeleteOtherUsersTrip() {
+		// given
+		Town savedTown = townRepository.save(getTown());
+		User owner = userRepository.save(getUser());
+		User otherUser = userRepository.save(User.builder()
+			.username("other")
+			.password("1234")
+			.name("홍길동")
+			.role(Auth.ROLE_USER)
+			.build());
+		Trip savedTrip = tripRepository.save(getTrip(savedTown, owner));
+
+		// when
+		Optional<Trip> foundTrip = tripRepository.findTripByIdAndUserId(savedTrip.getId(), otherUser.getId());
+		int deletedCount = tripRepository.deleteTripByIdAndUserId(savedTrip.getId(), otherUser.getId());
+
+		// then
+		assertThat(foundTrip).isEmpty();
+		assertThat(deletedCount).isZero();
+		assertThat(tripRepository.existsById(savedTrip.getId())).isTrue();
+		assertThat(tripRepository.findTripByIdAndUserId(savedTrip.getId(), owner.getId())).isPresent();
+	}
+
 	private Town getTown() {
 		return Town.builder()
 			.name("서울")
@@ -69,26 +101,48 @@ class TripRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("# [2] 유저와 여행 아이디로 조회하기")
-	void findTripByUserAndId() {
+	@DisplayName("# [4] 상태별 여행 목록 키셋 페이지 조회하기")
+	void findTripsByStatus() {
 		// given
-		Town town = getTown();
-		Town savedTown = townRepository.save(town);
-
-		User user = getUser();
-		User savedUser = userRepository.save(user);
-
-		Trip trip = getTrip(savedTown, savedUser);
-		Trip savedTrip = tripRepository.save(trip);
+		Town savedTown = townRepository.save(getTown());
+		User savedUser = userRepository.save(getUser());
+
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+		Trip pastTrip = getTrip(savedTown, savedUser);
+		pastTrip.setStartDate(now.minusDays(10));
+		pastTrip.setEndDate(now.minusDays(5));
+		Trip firstTrip = getTrip(savedTown, savedUser);
+		firstTrip.setStartDate(now.plusDays(1));
+		firstTrip.setEndDate(now.plusDays(3));
+		Trip secondTrip = getTrip(savedTown, savedUser);
+		secondTrip.setStartDate(now.plusDays(2));
+		secondTrip.setEndDate(now.plusDays(4));
+		tripRepository.save(pastTrip);
+		tripRepository.save(firstTrip);
+		Trip savedSecondTrip = tripRepository.save(secondTrip);
+
+		TripPageRequest firstRequest = TripPageRequest.builder()
+			.status("upcoming")
+			.size(1)
+			.build();
 
 		// when
-		Trip dbTrip = tripRepository.findTripByUserAndId(savedUser, savedTrip.getId()).orElse(null);
+		List<TripResponse> firstPage = tripRepository.findTripsByStatus(savedUser.getId(), firstRequest, now);
+		TripPageRequest nextRequest = TripPageRequest.builder()
+			.status("upcoming")
+			.cursor(TripPageRequest.getCursor(firstPage.get(0)))
+			.size(1)
+			.build();
+		List<TripResponse> nextPage = tripRepository.findTripsByStatus(savedUser.getId(), nextRequest, now);
 
 		// then
-		assertThat(dbTrip)
-			.isNotNull()
-			.hasFieldOrPropertyWithValue("id", savedTrip.getId())
-			.hasFieldOrPropertyWithValue("town", savedTown);
+		assertThat(firstPage).hasSize(2);
+		assertThat(firstPage.get(0))
+			.hasFieldOrPropertyWithValue("startDate", now.plusDays(1))
+			.hasFieldOrPropertyWithValue("name", savedTown.getName());
+		assertThat(nextPage).hasSize(1);
+		assertThat(nextPage.get(0))
+			.hasFieldOrPropertyWithValue("id", savedSecondTrip.getId());
 	}
 
 	private Trip getTrip(Town town) {
@@ -0,0 +1,129 @@
+package com.triple.destination_management.domain.trip.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.triple.destination_management.domain.trip.dto.TripInterval;
+
+@DisplayName("** [ TripIntervalTreeTest ] **")
+class TripIntervalTreeTest {
+
+	private final LocalDateTime now = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+	private final TripIntervalTree tree = new TripIntervalTree(List.of(
+		getTripInterval(1L, -30, -20), // 종료
+		getTripInterval(2L, -60, 1),   // 여행중 (오래 전에 시작)
+		getTripInterval(3L, -1, 5),    // 여행중
+		getTripInterval(4L, 10, 15),   // 여행 예정
+		getTripInterval(5L, 3, 7),     // 여행 예정 (가장 먼저)
+		new TripInterval(6L, 6L, null, null)
+	));
+
+	@Test
+	@DisplayName("# [1] 현재 여행중인 여행 조회하기")
+	void findTraveling() {
+		// given
+
+		// when
+		List<TripInterval> traveling = tree.findTraveling(now);
+
+		// then
+		assertThat(traveling)
+			.extracting(TripInterval::getTripId)
+			.containsExactly(2L, 3L);
+	}
+
+	@Test
+	@DisplayName("# [2] 가장 먼저 시작하는 여행 예정 조회하기")
+	void findNextScheduled() {
+		// given
+
+		// when & then
+		assertThat(tree.findNextScheduled(now))
+			.isPresent()
+			.get()
+			.hasFieldOrPropertyWithValue("tripId", 5L);
+		assertThat(tree.findNextScheduled(now.plusDays(20))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [2-1] 여행 예정인 여행을 시작일 순으로 조회하기")
+	void findScheduled() {
+		// given
+
+		// when
+		List<TripInterval> scheduled = tree.findScheduled(now);
+
+		// then
+		assertThat(scheduled)
+			.extracting(TripInterval::getTripId)
+			.containsExactly(5L, 4L);
+		assertThat(tree.findScheduled(now.plusDays(20))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [3] 기간이 겹치는 여행 조회하기")
+	void findOverlapping() {
+		// given
+
+		// when
+		List<TripInterval> overlapping = tree.findOverlapping(now.plusDays(4), now.plusDays(11));
+
+		// then
+		assertThat(overlapping)
+			.extracting(TripInterval::getTripId)
+			.containsExactly(3L, 5L, 4L);
+	}
+
+	@Test
+	@DisplayName("# [4] 가장 가까운 여행 경계 시점 조회하기")
+	void findNextBoundary() {
+		// given
+
+		// when & then
+		assertThat(tree.findNextBoundary(now)).hasValue(now.plusDays(1));
+		assertThat(tree.findNextBoundary(now.plusDays(20))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [5] 등록 / 수정 / 삭제된 여행만 반영한 트리 만들기")
+	void apply() {
+		// given
+		List<TripInterval> savedIntervals = List.of(
+			getTripInterval(3L, 2, 5),  // 수정: 여행중 -> 여행 예정
+			getTripInterval(7L, -2, 2)  // 등록: 여행중
+		);
+
+		// when
+		TripIntervalTree applied = tree.apply(savedIntervals, List.of(2L));
+
+		// then
+		assertThat(applied.findTraveling(now))
+			.extracting(TripInterval::getTripId)
+			.containsExactly(7L);
+		assertThat(applied.findScheduled(now))
+			.extracting(TripInterval::getTripId)
+			.containsExactly(3L, 5L, 4L);
+		assertThat(tree.findTraveling(now))
+			.extracting(TripInterval::getTripId)
+			.containsExactly(2L, 3L);
+	}
+
+	private TripInterval getTripInterval(
+		Long tripId,
+		int startDay,
+		int endDay
+	) {
+		return TripInterval.builder()
+			.tripId(tripId)
+			.townId(tripId)
+			.startDate(now.plusDays(startDay))
+			.endDate(now.plusDays(endDay))
+			.build();
+	}
+}
@@ -0,0 +1,165 @@
+package com.triple.destination_management.domain.trip.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.triple.destination_management.domain.town.entity.Town;
+import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.trip.dto.TripRequest;
+import com.triple.destination_management.domain.trip.entity.Trip;
+import com.triple.destination_management.domain.trip.repository.TripRepository;
+import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.entity.User;
+import com.triple.destination_management.domain.user.repository.UserRepository;
+import com.triple.destination_management.global.config.JpaConfig;
+import com.triple.destination_management.global.constants.ResponseCode;
+import com.triple.destination_management.global.exception.GeneralException;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@DisplayName("** [ TripOverlapCheckerTest ] **")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "trip.overlap-policy=REJECT")
+@Import({JpaConfig.class, TripOverlapChecker.class, TripIntervalIndex.class})
+class TripOverlapCheckerTest {
+
+	private final TripOverlapChecker tripOverlapChecker;
+
+	private final TripRepository tripRepository;
+
+	private final TownRepository townRepository;
+
+	private final UserRepository userRepository;
+
+	private User savedUser;
+
+	private Trip savedTrip;
+
+	TripOverlapCheckerTest(
+		@Autowired TripOverlapChecker tripOverlapChecker,
+		@Autowired TripRepository tripRepository,
+		@Autowired TownRepository townRepository,
+		@Autowired UserRepository userRepository
+	) {
+		this.tripOverlapChecker = tripOverlapChecker;
+		this.tripRepository = tripRepository;
+		this.townRepository = townRepository;
+		this.userRepository = userRepository;
+	}
+
+	@BeforeEach
+	public void init() {
+		savedUser = userRepository.save(
+			User.builder().username("gyul").password("1234").name("김규남").role(Auth.ROLE_USER).build());
+		Town savedTown = townRepository.save(Town.builder().name("서울").country("대한민국").build());
+		savedTrip = tripRepository.save(Trip.builder()
+			.user(savedUser)
+			.town(savedTown)
+			.startDate(getDateTime(10))
+			.endDate(getDateTime(15))
+			.build());
+	}
+
+	@Test
+	@DisplayName("# [1] 기간이 겹치는 여행 등록 거부")
+	void rejectOverlappedTrip() {
+		// given
+		TripRequest tripRequest = getTripRequest(12, 20);
+
+		// when
+		Throwable thrown = catchThrowable(() -> tripOverlapChecker.check(savedUser.getId(), tripRequest, null));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasMessageContaining(ResponseCode.OVERLAPPED_REQUEST.getMessage());
+	}
+
+	@Test
+	@DisplayName("# [2] 겹치지 않는 여행 / 자기 자신과만 겹치는 수정은 통과")
+	void passNotOverlappedTrip() {
+		// given
+		TripRequest tripRequest = getTripRequest(16, 20);
+		TripRequest modifyRequest = getTripRequest(11, 14);
+
+		// when
+		List<Long> overlappedTripIds = tripOverlapChecker.check(savedUser.getId(), tripRequest, null);
+		List<Long> modifiedTripIds = tripOverlapChecker.check(savedUser.getId(), modifyRequest, savedTrip.getId());
+
+		// then
+		assertThat(overlappedTripIds).isEmpty();
+		assertThat(modifiedTripIds).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [3] 일괄 등록 요청끼리 겹치면 거부")
+	void rejectOverlappedRequests() {
+		// given
+		List<TripRequest> tripRequests = List.of(getTripRequest(20, 25), getTripRequest(24, 30));
+
+		// when
+		Throwable thrown = catchThrowable(() -> tripOverlapChecker.checkEachOther(tripRequests));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasMessageContaining(ResponseCode.OVERLAPPED_REQUEST.getMessage());
+	}
+
+	@Test
+	@DisplayName("# [4] 일괄 등록 요청 중 하나라도 기존 여행과 겹치면 거부")
+	void rejectOverlappedBatch() {
+		// given
+		List<TripRequest> tripRequests = List.of(getTripRequest(1, 5), getTripRequest(14, 18));
+
+		// when
+		Throwable thrown = catchThrowable(() -> tripOverlapChecker.checkAll(savedUser.getId(), tripRequests));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasMessageContaining(ResponseCode.OVERLAPPED_REQUEST.getMessage());
+	}
+
+	@Test
+	@DisplayName("# [5] 기존 여행과 겹치지 않는 일괄 등록 요청은 통과")
+	void passNotOverlappedBatch() {
+		// given
+		List<TripRequest> tripRequests = List.of(getTripRequest(1, 5), getTripRequest(16, 18));
+
+		// when
+		List<List<Long>> overlappedTripIds = tripOverlapChecker.checkAll(savedUser.getId(), tripRequests);
+
+		// then
+		assertThat(overlappedTripIds)
+			.hasSize(2)
+			.allSatisfy(tripIds -> assertThat(tripIds).isEmpty());
+	}
+
+	private LocalDateTime getDateTime(int day) {
+		return LocalDateTime.of(2030, 1, 1, 0, 0).plusDays(day);
+	}
+
+	private TripRequest getTripRequest(
+		int startDay,
+		int endDay
+	) {
+		return TripRequest.builder()
+			.townId(1L)
+			.startDate(getDateTime(startDay))
+			.endDate(getDateTime(endDay))
+			.build();
+	}
+}
@@ -3,6 +3,7 @@ package com.triple.destination_management.domain.trip.service;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.town.repository.TownRepository;
+import com.triple.destination_management.domain.town.service.TownCatalog;
 import com.triple.destination_management.domain.trip.dto.TripRequest;
 import com.triple.destination_management.domain.trip.dto.TripResponse;
 import com.triple.destination_management.domain.user.constants.Auth;
@@ -27,7 +29,7 @@ import com.triple.destination_management.global.exception.GeneralException;
 @DataJpaTest
 @DisplayName("** [ TripServiceTest ] **")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({JpaConfig.class, TripService.class})
+@Import({JpaConfig.class, TripService.class, TripOverlapChecker.class, TripIntervalIndex.class, TownCatalog.class})
 class TripServiceTest {
 
 
@@ -140,6 +142,51 @@ class TripServiceTest {
 			.hasMessageContaining(ResponseCode.NOT_FOUND.getMessage());
 	}
 
+	@Test
+	@DisplayName("# [1-5] 여행 일괄 등록하기")
+	void registerTrips() {
+		// given
+		User savedUser = userRepository.save(getUser());
+		Town seoul = townRepository.save(getTown("서울", "대한민국"));
+		Town tokyo = townRepository.save(getTown("도쿄", "일본"));
+
+		List<TripRequest> tripRequests = List.of(
+			getTripRequest(seoul.getId(), getDateTime(5), getDateTime(10)),
+			getTripRequest(tokyo.getId(), getDateTime(15), getDateTime(20)),
+			getTripRequest(seoul.getId(), getDateTime(25), getDateTime(30))
+		);
+
+		// when
+		List<TripResponse> tripResponses = tripService.registerTrips(tripRequests, savedUser.getId());
+
+		// then
+		assertThat(tripResponses)
+			.hasSize(3)
+			.extracting("name")
+			.containsExactly("서울", "도쿄", "서울");
+	}
+
+	@Test
+	@DisplayName("# [1-6] 없는 도시를 포함해 일괄 등록하기")
+	void registerTripsWithNotExistTown() {
+		// given
+		User savedUser = userRepository.save(getUser());
+		Town seoul = townRepository.save(getTown("서울", "대한민국"));
+
+		List<TripRequest> tripRequests = List.of(
+			getTripRequest(seoul.getId(), getDateTime(5), getDateTime(10)),
+			getTripRequest(-99999L, getDateTime(15), getDateTime(20))
+		);
+
+		// when
+		Throwable thrown = catchThrowable(() -> tripService.registerTrips(tripRequests, savedUser.getId()));
+
+		// then
+		assertThat(thrown)
+			.isInstanceOf(GeneralException.class)
+			.hasMessageContaining(ResponseCode.NOT_FOUND.getMessage());
+	}
+
 	@Test
 	@DisplayName("# [2-1] 여행 수정하기")
 	void modifyTrip() {
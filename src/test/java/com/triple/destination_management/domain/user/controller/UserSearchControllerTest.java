@@ -21,6 +21,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.constants.SearchTrendWindow;
+import com.triple.destination_management.domain.user.dto.TrendingTownResponse;
 import com.triple.destination_management.domain.user.dto.UserSearchResponse;
 import com.triple.destination_management.domain.user.entity.User;
 import com.triple.destination_management.domain.user.service.UserSearchService;
@@ -143,7 +145,7 @@ class UserSearchControllerTest {
 		// given
 		List<UserSearchResponse> userSearchResponses = getUserSearchResponses();
 		Long userId = 1L;
-		given(userSearchService.findSearch(userId)).willReturn(userSearchResponses);
+		given(userSearchService.findSearch(userId, 20)).willReturn(userSearchResponses);
 
 		// when & then
 		mvc.perform(get("/api/v1/search")
@@ -162,7 +164,7 @@ class UserSearchControllerTest {
 			.andExpect(jsonPath("$.message").value(ResponseCode.OK.getMessage()))
 		;
 
-		then(userSearchService).should().findSearch(userId);
+		then(userSearchService).should().findSearch(userId, 20);
 	}
 
 	@Test
@@ -171,7 +173,7 @@ class UserSearchControllerTest {
 		// given
 		List<UserSearchResponse> userSearchResponses = getUserSearchResponses();
 		Long userId = 1L;
-		given(userSearchService.findSearch(userId)).willReturn(userSearchResponses);
+		given(userSearchService.findSearch(userId, 20)).willReturn(userSearchResponses);
 
 		// when & then
 		mvc.perform(get("/api/v1/search")
@@ -183,7 +185,7 @@ class UserSearchControllerTest {
 			.andExpect(jsonPath("$.message").value(ResponseCode.ACCESS_DENIED.getMessage()))
 		;
 
-		then(userSearchService).should(never()).findSearch(userId);
+		then(userSearchService).should(never()).findSearch(userId, 20);
 	}
 
 	@Test
@@ -192,7 +194,7 @@ class UserSearchControllerTest {
 		// given
 		List<UserSearchResponse> userSearchResponses = getUserSearchResponses();
 		Long userId = 1L;
-		given(userSearchService.findSearch(userId)).willReturn(userSearchResponses);
+		given(userSearchService.findSearch(userId, 20)).willReturn(userSearchResponses);
 
 		// when & then
 		mvc.perform(get("/api/v1/search")
@@ -205,7 +207,79 @@ class UserSearchControllerTest {
 			.andExpect(jsonPath("$.message").value(ResponseCode.ACCESS_DENIED.getMessage()))
 		;
 
-		then(userSearchService).should(never()).findSearch(userId);
+		then(userSearchService).should(never()).findSearch(userId, 20);
+	}
+
+	@Test
+	@DisplayName("# [2-4]-[GET] 조회 개수를 비워서 최근 검색어 조회하기")
+	void findSearchWithEmptyLimit() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/search")
+			.param("limit", "")
+			.contentType(MediaType.APPLICATION_JSON)
+			.header(JwtProperties.JWT_ACCESS_HEADER, JwtProperties.TOKEN_PREFIX + token))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(userSearchService).should(never()).findSearch(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("# [3-1]-[GET] 인기 검색도시 조회하기")
+	void findTrendingTowns() throws Exception {
+		// given
+		List<TrendingTownResponse> trendingTowns = List.of(
+			TrendingTownResponse.builder().id(1L).name("서울").country("대한민국").searchCount(3L).build());
+		given(userSearchService.findTrendingTowns(SearchTrendWindow.ONE_HOUR, 10)).willReturn(trendingTowns);
+
+		// when & then
+		mvc.perform(get("/api/v1/search/trending")
+			.param("window", "1h")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().is2xxSuccessful())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.data[0].id").value(1L))
+			.andExpect(jsonPath("$.data[0].searchCount").value(3L))
+			.andExpect(jsonPath("$.success").value(true))
+		;
+
+		then(userSearchService).should().findTrendingTowns(SearchTrendWindow.ONE_HOUR, 10);
+	}
+
+	@Test
+	@DisplayName("# [3-2]-[GET] 잘못된 기간으로 인기 검색도시 조회하기")
+	void findTrendingTownsWithWrongWindow() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/search/trending")
+			.param("window", "3d")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(userSearchService).should(never()).findTrendingTowns(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("# [3-3]-[GET] 집계 기간과 조회 개수를 비워서 인기 검색도시 조회하기")
+	void findTrendingTownsWithEmptyParams() throws Exception {
+		// when & then
+		mvc.perform(get("/api/v1/search/trending")
+			.param("window", "")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		mvc.perform(get("/api/v1/search/trending")
+			.param("size", "")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().is4xxClientError())
+			.andExpect(jsonPath("$.success").value(false))
+		;
+
+		then(userSearchService).should(never()).findTrendingTowns(any(), anyInt());
 	}
 
 	private UserSearchResponse getUserSearchResponse(
@@ -72,7 +72,7 @@ class UserSearchRepositoryTest {
 		}
 
 		// when
-		List<UserSearchResponse> userSearchResponses = userSearchRepository.findSearchByUserId(savedUser.getId());
+		List<UserSearchResponse> userSearchResponses = userSearchRepository.findSearchByUserId(savedUser.getId(), towns.size());
 
 		// then
 		assertThat(userSearchResponses)
@@ -106,6 +106,29 @@ class UserSearchRepositoryTest {
 			.hasFieldOrPropertyWithValue("town", towns.get(0));
 	}
 
+	@Test
+	@DisplayName("# [3] 최근 검색어 개수를 넘는 오래된 기록 삭제하기")
+	void deleteOverflowSearches() {
+		// given
+		User savedUser = userRepository.save(getUser());
+
+		for (Town town : towns) {
+			UserSearch userSearch = getUserSearch(town, savedUser);
+			userSearchRepository.save(userSearch);
+		}
+		int historySize = 3;
+
+		// when
+		long deletedCount = userSearchRepository.deleteOverflowSearches(savedUser.getId(), historySize, 1000);
+
+		// then
+		assertThat(deletedCount).isEqualTo(towns.size() - historySize);
+		assertThat(userSearchRepository.findSearchByUserId(savedUser.getId(), towns.size()))
+			.hasSize(historySize)
+			.extracting("townId")
+			.doesNotContain(towns.get(0).getId(), towns.get(1).getId());
+	}
+
 	private UserSearch getUserSearch(
 		Town town,
 		User user
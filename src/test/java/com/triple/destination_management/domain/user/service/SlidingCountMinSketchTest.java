@@ -0,0 +1,58 @@
+package com.triple.destination_management.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("** [ SlidingCountMinSketchTest ] **")
+class SlidingCountMinSketchTest {
+
+	private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+
+	private final SlidingCountMinSketch sketch = new SlidingCountMinSketch(Duration.ofHours(1), 60);
+
+	@Test
+	@DisplayName("# [1] 기간 내 추정 횟수 조회하기")
+	void estimate() {
+		// given
+		for (long key = 1; key <= 500; key++) {
+			for (int i = 0; i < key % 5; i++)
+				sketch.add(key, 10 * MINUTE);
+		}
+
+		// when & then
+		for (long key = 1; key <= 500; key++)
+			assertThat(sketch.estimate(key, 10 * MINUTE)).isGreaterThanOrEqualTo(key % 5);
+		assertThat(sketch.estimate(4L, 10 * MINUTE)).isLessThan(8L);
+	}
+
+	@Test
+	@DisplayName("# [2] 기간이 지난 구간 제외하기")
+	void estimateAfterWindow() {
+		// given
+		sketch.add(1L, 0);
+		sketch.add(1L, 30 * MINUTE);
+		sketch.add(1L, 30 * MINUTE);
+
+		// when & then
+		assertThat(sketch.estimate(1L, 59 * MINUTE)).isEqualTo(3L);
+		assertThat(sketch.estimate(1L, 60 * MINUTE)).isEqualTo(2L);
+		assertThat(sketch.estimate(1L, 90 * MINUTE)).isZero();
+	}
+
+	@Test
+	@DisplayName("# [3] 기간 밖 시점의 검색 무시하기")
+	void addBeforeWindow() {
+		// given
+		sketch.add(1L, 90 * MINUTE);
+
+		// when
+		sketch.add(1L, 10 * MINUTE);
+
+		// then
+		assertThat(sketch.estimate(1L, 90 * MINUTE)).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,64 @@
+package com.triple.destination_management.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.triple.destination_management.domain.user.dto.UserSearchRecord;
+import com.triple.destination_management.domain.user.repository.UserSearchUpsertRepository;
+
+@DisplayName("** [ UserSearchRecorderTest ] **")
+class UserSearchRecorderTest {
+
+	@Test
+	@DisplayName("# [1] 반영이 실패해도 버퍼 크기를 넘는 새 기록은 버리고 개수만 세기")
+	void recordOverBufferSize() throws InterruptedException {
+		// given
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		willThrow(new IllegalStateException("connection refused")).given(transactionTemplate)
+			.executeWithoutResult(any());
+		UserSearchRecorder userSearchRecorder = new UserSearchRecorder(mock(UserSearchUpsertRepository.class),
+			mock(UserSearchCompactor.class), transactionTemplate, mock(ApplicationEventPublisher.class), 2);
+
+		// when
+		for (long townId = 1; townId <= 100; townId++) {
+			userSearchRecorder.record(1L, townId, LocalDateTime.now());
+		}
+		userSearchRecorder.shutdown();
+		List<UserSearchRecord> pending = userSearchRecorder.findPending(1L);
+
+		// then
+		assertThat(pending).hasSizeLessThanOrEqualTo(2);
+		assertThat(pending.size() + userSearchRecorder.getDroppedCount()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("# [2] 버퍼가 가득 차도 이미 있는 기록에는 검색 횟수를 합치기")
+	void recordExistingOverBufferSize() throws InterruptedException {
+		// given
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		willThrow(new IllegalStateException("connection refused")).given(transactionTemplate)
+			.executeWithoutResult(any());
+		UserSearchRecorder userSearchRecorder = new UserSearchRecorder(mock(UserSearchUpsertRepository.class),
+			mock(UserSearchCompactor.class), transactionTemplate, mock(ApplicationEventPublisher.class), 1);
+
+		// when
+		userSearchRecorder.record(1L, 1L, LocalDateTime.now());
+		userSearchRecorder.record(1L, 1L, LocalDateTime.now());
+		userSearchRecorder.shutdown();
+
+		// then
+		assertThat(userSearchRecorder.findPending(1L))
+			.hasSize(1)
+			.element(0)
+			.hasFieldOrPropertyWithValue("hitCount", 2);
+		assertThat(userSearchRecorder.getDroppedCount()).isZero();
+	}
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +18,14 @@ import org.springframework.test.context.ActiveProfiles;
 import com.triple.destination_management.domain.town.entity.Town;
 import com.triple.destination_management.domain.town.repository.TownRepository;
 import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.constants.SearchTrendWindow;
+import com.triple.destination_management.domain.user.dto.TrendingTownResponse;
 import com.triple.destination_management.domain.user.dto.UserSearchResponse;
 import com.triple.destination_management.domain.user.entity.User;
 import com.triple.destination_management.domain.user.entity.UserSearch;
 import com.triple.destination_management.domain.user.repository.UserRepository;
 import com.triple.destination_management.domain.user.repository.UserSearchRepository;
+import com.triple.destination_management.domain.user.repository.UserSearchUpsertRepository;
 import com.triple.destination_management.global.config.JpaConfig;
 import com.triple.destination_management.global.constants.ResponseCode;
 import com.triple.destination_management.global.exception.GeneralException;
@@ -30,7 +34,10 @@ import com.triple.destination_management.global.exception.GeneralException;
 @DataJpaTest
 @DisplayName("** [ UserSearchServiceTest ] **")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({JpaConfig.class, UserSearchService.class})
+@Import({
+	JpaConfig.class, UserSearchService.class, UserSearchRecorder.class, UserSearchUpsertRepository.class,
+	UserSearchCompactor.class, SearchTrendTracker.class
+})
 class UserSearchServiceTest {
 
 	private final UserSearchService userSearchService;
@@ -41,6 +48,8 @@ class UserSearchServiceTest {
 
 	private final UserSearchRepository userSearchRepository;
 
+	private final UserSearchRecorder userSearchRecorder;
+
 	private final List<Town> towns = new ArrayList<>();
 
 	private final List<String> townNames = List.of("서울", "부산", "대구", "포항", "제주");
@@ -49,12 +58,14 @@ class UserSearchServiceTest {
 		@Autowired UserSearchService userSearchService,
 		@Autowired TownRepository townRepository,
 		@Autowired UserRepository userRepository,
-		@Autowired UserSearchRepository userSearchRepository
+		@Autowired UserSearchRepository userSearchRepository,
+		@Autowired UserSearchRecorder userSearchRecorder
 	) {
 		this.userSearchService = userSearchService;
 		this.townRepository = townRepository;
 		this.userRepository = userRepository;
 		this.userSearchRepository = userSearchRepository;
+		this.userSearchRecorder = userSearchRecorder;
 	}
 
 	@BeforeEach
@@ -64,6 +75,12 @@ class UserSearchServiceTest {
 			Town savedTown = townRepository.save(town);
 			towns.add(savedTown);
 		}
+		townRepository.flush(); // 검색 기록은 JDBC 로 반영되므로 미리 저장
+	}
+
+	@AfterEach
+	public void flushSearches() {
+		userSearchRecorder.flush(); // 반영 전 기록이 다음 테스트로 넘어가지 않도록 비움
 	}
 
 	@Test
@@ -71,17 +88,18 @@ class UserSearchServiceTest {
 	void registerSearch() {
 		// given
 		User user = getUser();
-		User savedUser = userRepository.save(user);
+		User savedUser = userRepository.saveAndFlush(user);
 
 		Town town = getTown("서울", "대한민국");
-		Town savedTown = townRepository.save(town);
+		Town savedTown = townRepository.saveAndFlush(town);
 
 		// when
-		Long searchId = userSearchService.registerSearch(savedTown.getId(), savedUser.getId());
+		Long townId = userSearchService.registerSearch(savedTown.getId(), savedUser.getId());
+		userSearchRecorder.flush();
 
 		// then
-		assertThat(searchId).isNotNull();
-		UserSearch userSearch = userSearchRepository.findById(searchId).orElse(null);
+		assertThat(townId).isEqualTo(savedTown.getId());
+		UserSearch userSearch = userSearchRepository.findUserSearchByUserAndTown(savedUser, savedTown).orElse(null);
 
 		assertThat(userSearch)
 			.isNotNull()
@@ -108,21 +126,46 @@ class UserSearchServiceTest {
 	}
 
 	@Test
-	@DisplayName("# [1-3] 없는 유저로 최근 검색어 등록하기")
+	@DisplayName("# [1-3] 없는 유저의 최근 검색어는 반영 시 버려짐")
 	void registerSearchWithNotExistUserId() {
 		// given
 		Long userId = -99999L;
 
 		Town town = getTown("부산", "대한민국");
-		Town savedTown = townRepository.save(town);
+		Town savedTown = townRepository.saveAndFlush(town);
 
 		// when
-		Throwable thrown = catchThrowable(() -> userSearchService.registerSearch(savedTown.getId(), userId));
+		userSearchService.registerSearch(savedTown.getId(), userId);
+		Throwable thrown = catchThrowable(userSearchRecorder::flush);
 
 		// then
-		assertThat(thrown)
-			.isInstanceOf(GeneralException.class)
-			.hasMessageContaining(ResponseCode.NOT_FOUND.getMessage());
+		assertThat(thrown).isNull();
+		assertThat(userSearchRepository.findSearchByUserId(userId, 20)).isEmpty();
+		assertThat(userSearchRecorder.findPending(userId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("# [1-4] 같은 도시를 다시 검색하면 한 행에 검색 횟수를 누적")
+	void registerSearchTwice() {
+		// given
+		User savedUser = userRepository.saveAndFlush(getUser());
+		Town savedTown = towns.get(0);
+
+		// when
+		userSearchService.registerSearch(savedTown.getId(), savedUser.getId());
+		userSearchRecorder.flush();
+		userSearchService.registerSearch(savedTown.getId(), savedUser.getId());
+		userSearchService.registerSearch(savedTown.getId(), savedUser.getId());
+		userSearchRecorder.flush();
+
+		// then
+		assertThat(userSearchRepository.findSearchByUserId(savedUser.getId(), 20))
+			.hasSize(1)
+			.element(0)
+			.hasFieldOrPropertyWithValue("townId", savedTown.getId());
+		assertThat(userSearchRepository.findUserSearchByUserAndTown(savedUser, savedTown))
+			.get()
+			.hasFieldOrPropertyWithValue("hitCount", 3);
 	}
 
 	@Test
@@ -138,7 +181,7 @@ class UserSearchServiceTest {
 		}
 
 		// when
-		List<UserSearchResponse> userSearchResponses = userSearchService.findSearch(savedUser.getId());
+		List<UserSearchResponse> userSearchResponses = userSearchService.findSearch(savedUser.getId(), 20);
 
 		// then
 		assertThat(userSearchResponses)
@@ -157,7 +200,7 @@ class UserSearchServiceTest {
 		Long userId = -99999L;
 
 		// when
-		Throwable thrown = catchThrowable(() -> userSearchService.findSearch(userId));
+		Throwable thrown = catchThrowable(() -> userSearchService.findSearch(userId, 20));
 
 		// then
 		assertThat(thrown)
@@ -165,6 +208,71 @@ class UserSearchServiceTest {
 			.hasMessageContaining(ResponseCode.NOT_FOUND.getMessage());
 	}
 
+	@Test
+	@DisplayName("# [2-3] 반영 전 최근 검색어를 합쳐서 조회하기")
+	void findSearchWithPending() {
+		// given
+		User savedUser = userRepository.saveAndFlush(getUser());
+		for (Town town : towns) {
+			UserSearch userSearch = getUserSearch(town, savedUser);
+			userSearchRepository.save(userSearch);
+		}
+		Town lastTown = towns.get(towns.size() - 1);
+		userSearchService.registerSearch(lastTown.getId(), savedUser.getId());
+
+		// when
+		List<UserSearchResponse> userSearchResponses = userSearchService.findSearch(savedUser.getId(), 20);
+
+		// then
+		assertThat(userSearchResponses)
+			.hasSize(towns.size())
+			.element(0)
+			.hasFieldOrPropertyWithValue("id", null)
+			.hasFieldOrPropertyWithValue("name", lastTown.getName());
+	}
+
+	@Test
+	@DisplayName("# [2-4] 최근 검색어 목록 개수 제한하기")
+	void findSearchWithLimit() {
+		// given
+		User savedUser = userRepository.saveAndFlush(getUser());
+		for (Town town : towns) {
+			UserSearch userSearch = getUserSearch(town, savedUser);
+			userSearchRepository.save(userSearch);
+		}
+		userSearchService.registerSearch(towns.get(0).getId(), savedUser.getId());
+
+		// when
+		List<UserSearchResponse> userSearchResponses = userSearchService.findSearch(savedUser.getId(), 2);
+
+		// then
+		assertThat(userSearchResponses)
+			.hasSize(2)
+			.element(0)
+			.hasFieldOrPropertyWithValue("name", towns.get(0).getName());
+	}
+
+	@Test
+	@DisplayName("# [3-1] 인기 검색도시 조회하기")
+	void findTrendingTowns() {
+		// given
+		User savedUser = userRepository.saveAndFlush(getUser());
+		userSearchService.registerSearch(towns.get(0).getId(), savedUser.getId());
+		userSearchService.registerSearch(towns.get(1).getId(), savedUser.getId());
+		userSearchService.registerSearch(towns.get(1).getId(), savedUser.getId());
+
+		// when
+		List<TrendingTownResponse> trendingTowns = userSearchService.findTrendingTowns(SearchTrendWindow.ONE_HOUR, 10);
+
+		// then
+		assertThat(trendingTowns).hasSize(2);
+		assertThat(trendingTowns.get(0))
+			.hasFieldOrPropertyWithValue("id", towns.get(1).getId())
+			.hasFieldOrPropertyWithValue("searchCount", 2L);
+		assertThat(trendingTowns.get(1))
+			.hasFieldOrPropertyWithValue("id", towns.get(0).getId());
+	}
+
 	private Town getTown(
 		String name,
 		String country
@@ -0,0 +1,92 @@
+package com.triple.destination_management.global.config.security.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@DisplayName("** [ JwtPrincipalCacheTest ] **")
+class JwtPrincipalCacheTest {
+
+	@Test
+	@DisplayName("# [1] 검증된 토큰 정보 캐시 저장 / 조회하기")
+	void putAndGet() {
+		// given
+		JwtPrincipalCache principalCache = new JwtPrincipalCache(10);
+		JwtPrincipal principal = getPrincipal(1L, System.currentTimeMillis() + 60_000);
+
+		// when
+		principalCache.put("token", principal);
+
+		// then
+		assertThat(principalCache.get("token"))
+			.isNotNull()
+			.hasFieldOrPropertyWithValue("userId", 1L)
+			.hasFieldOrPropertyWithValue("role", "ROLE_USER");
+	}
+
+	@Test
+	@DisplayName("# [2] 만료된 토큰 정보는 조회되지 않기")
+	void getExpired() {
+		// given
+		JwtPrincipalCache principalCache = new JwtPrincipalCache(10);
+		principalCache.put("token", getPrincipal(1L, System.currentTimeMillis() - 1000));
+
+		// when
+		JwtPrincipal principal = principalCache.get("token");
+
+		// then
+		assertThat(principal).isNull();
+	}
+
+	@Test
+	@DisplayName("# [3] 최대 크기를 넘으면 만료된 토큰 정보부터 제거하기")
+	void putOverMaxSize() {
+		// given
+		JwtPrincipalCache principalCache = new JwtPrincipalCache(2);
+		long expiration = System.currentTimeMillis() + 60_000;
+		principalCache.put("token1", getPrincipal(1L, System.currentTimeMillis() - 1000));
+		principalCache.put("token2", getPrincipal(2L, expiration));
+
+		// when
+		principalCache.put("token3", getPrincipal(3L, expiration));
+
+		// then
+		assertThat(principalCache.size()).isEqualTo(2);
+		assertThat(principalCache.get("token2")).isNotNull();
+		assertThat(principalCache.get("token3")).isNotNull();
+	}
+
+	@Test
+	@DisplayName("# [4] 만료되지 않은 토큰 정보만으로 최대 크기를 넘어도 최대 크기 이하로 유지하기")
+	void putOverMaxSizeWithoutExpired() {
+		// given
+		JwtPrincipalCache principalCache = new JwtPrincipalCache(10);
+		long expiration = System.currentTimeMillis() + 60_000;
+
+		// when
+		for (long userId = 1; userId <= 100; userId++) {
+			principalCache.put("token" + userId, getPrincipal(userId, expiration));
+		}
+
+		// then
+		assertThat(principalCache.size()).isLessThanOrEqualTo(10);
+		assertThat(principalCache.get("token100")).isNotNull();
+	}
+
+	private JwtPrincipal getPrincipal(
+		Long userId,
+		long expiration
+	) {
+		Claims claims = Jwts.claims();
+		claims.put("uid", userId);
+		claims.put("role", "ROLE_USER");
+		claims.setExpiration(new Date(expiration));
+		return JwtPrincipal.of(claims, "uid", "role");
+	}
+}
@@ -0,0 +1,56 @@
+package com.triple.destination_management.global.config.security.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.triple.destination_management.domain.user.constants.Auth;
+import com.triple.destination_management.domain.user.entity.User;
+
+import io.jsonwebtoken.JwtException;
+
+@DisplayName("** [ JwtProviderTest ] **")
+class JwtProviderTest {
+
+	private final JwtProvider jwtProvider =
+		new JwtProvider("ILoveTripCorpILikeTripCorpIWantToTripCorpTripCorpHooray");
+
+	@Test
+	@DisplayName("# [1] 토큰에서 사용자 정보 추출하기")
+	void parse() {
+		// given
+		String token = jwtProvider.createAccessToken(getUser());
+
+		// when
+		JwtPrincipal principal = jwtProvider.parse(token);
+
+		// then
+		assertThat(principal)
+			.isNotNull()
+			.hasFieldOrPropertyWithValue("userId", 1L)
+			.hasFieldOrPropertyWithValue("role", Auth.ROLE_USER.name());
+		assertThat(principal.isExpired(System.currentTimeMillis())).isFalse();
+	}
+
+	@Test
+	@DisplayName("# [2] 위조된 토큰 검증하기")
+	void parseForgedToken() {
+		// given
+		String token = jwtProvider.createAccessToken(getUser()) + "forged";
+
+		// when
+		Throwable thrown = catchThrowable(() -> jwtProvider.parse(token));
+
+		// then
+		assertThat(thrown).isInstanceOf(JwtException.class);
+	}
+
+	private User getUser() {
+		return User.builder()
+			.id(1L)
+			.username("gyul")
+			.role(Auth.ROLE_USER)
+			.build();
+	}
+}